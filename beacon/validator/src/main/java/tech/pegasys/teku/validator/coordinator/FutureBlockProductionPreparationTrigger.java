@@ -17,7 +17,9 @@ import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class FutureBlockProductionPreparationTrigger {
@@ -25,6 +27,9 @@ public class FutureBlockProductionPreparationTrigger {
       new FutureBlockProductionPreparationTrigger(null, null, null) {
         @Override
         public void onFutureBlockProductionPreparationDue(final UInt64 slot) {}
+
+        @Override
+        public void onFutureBlockProductionStatePrecomputationDue(final UInt64 slot) {}
       };
 
   private static final Logger LOG = LogManager.getLogger();
@@ -65,6 +70,47 @@ public class FutureBlockProductionPreparationTrigger {
         .finishError(LOG);
   }
 
+  /**
+   * Speculatively advances the current head state into the next slot when a connected validator is
+   * due to propose in it. The resulting state is cached by the store, so if the head doesn't change
+   * before the proposal, block production only has to apply late attestations and the payload
+   * rather than processing the slot (and potentially epoch) transition.
+   */
+  public void onFutureBlockProductionStatePrecomputationDue(final UInt64 slot) {
+    if (!inSync) {
+      return;
+    }
+    asyncRunner
+        .runAsync(
+            () -> {
+              final UInt64 productionSlot = slot.increment();
+              recentChainData
+                  .isBlockProposerConnected(productionSlot)
+                  .thenCompose(
+                      isConnected -> {
+                        if (!isConnected) {
+                          return SafeFuture.COMPLETE;
+                        }
+                        return recentChainData
+                            .getBestBlockRoot()
+                            .map(
+                                headRoot -> {
+                                  LOG.debug(
+                                      "Precomputing block production state for slot {} on head {}",
+                                      productionSlot,
+                                      headRoot);
+                                  return recentChainData
+                                      .retrieveBlockState(
+                                          new SlotAndBlockRoot(productionSlot, headRoot))
+                                      .toVoid();
+                                })
+                            .orElse(SafeFuture.COMPLETE);
+                      })
+                  .finishError(LOG);
+            })
+        .finishError(LOG);
+  }
+
   public void onSyncingStatusChanged(final boolean inSync) {
     this.inSync = inSync;
   }
@@ -13,7 +13,6 @@
 
 package tech.pegasys.teku.validator.coordinator.duties;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +23,7 @@ import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 
@@ -53,16 +53,20 @@ public class AttesterDutiesGenerator {
     final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
     final UInt64 committeeCountPerSlot =
         beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
-    final Int2ObjectMap<CommitteeAssignment> validatorIndexToCommitteeAssignmentMap =
-        spec.getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+    final EpochCommitteeAssignments committeeAssignments =
+        spec.getEpochCommitteeAssignments(state, epoch);
     for (final int validatorIndex : validatorIndices) {
-      final CommitteeAssignment committeeAssignment =
-          validatorIndexToCommitteeAssignmentMap.get(validatorIndex);
-      if (committeeAssignment != null) {
-        attesterDutyFromCommitteeAssignment(
-                committeeAssignment, validatorIndex, committeeCountPerSlot, state)
-            .ifPresent(attesterDutyList::add);
-      }
+      committeeAssignments
+          .getCommitteeAssignment(validatorIndex)
+          .flatMap(
+              committeeAssignment ->
+                  attesterDutyFromCommitteeAssignment(
+                      committeeAssignment,
+                      validatorIndex,
+                      committeeAssignments.getPositionInCommittee(validatorIndex).orElseThrow(),
+                      committeeCountPerSlot,
+                      state))
+          .ifPresent(attesterDutyList::add);
     }
     return attesterDutyList;
   }
@@ -70,6 +74,7 @@ public class AttesterDutiesGenerator {
   private Optional<AttesterDuty> attesterDutyFromCommitteeAssignment(
       final CommitteeAssignment committeeAssignment,
       final int validatorIndex,
+      final int validatorCommitteeIndex,
       final UInt64 committeeCountPerSlot,
       final BeaconState state) {
     return spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
@@ -81,7 +86,7 @@ public class AttesterDutiesGenerator {
                     committeeAssignment.committee().size(),
                     committeeAssignment.committeeIndex().intValue(),
                     committeeCountPerSlot.intValue(),
-                    committeeAssignment.committee().indexOf(validatorIndex),
+                    validatorCommitteeIndex,
                     committeeAssignment.slot()));
   }
 }
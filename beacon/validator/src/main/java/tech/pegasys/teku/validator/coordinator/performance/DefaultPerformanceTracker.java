@@ -276,14 +276,16 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     // performance is current epoch - 2.
     final UInt64 analysisRangeEndEpoch = analyzedEpoch.plus(ATTESTATION_INCLUSION_RANGE);
 
-    // Get included attestations for the given epochs in a map from slot to attestations
-    // included in block.
-    final SafeFuture<Map<UInt64, List<Attestation>>> attestationsIncludedOnChainFuture =
-        getAttestationsIncludedInEpochs(analyzedEpoch, analysisRangeEndEpoch);
-
     // Get sent attestations in range
     final Set<Attestation> producedAttestations =
         producedAttestationsByEpoch.getOrDefault(analyzedEpoch, Collections.emptySet());
+
+    // Get included attestations for the given epochs in a map from slot to attestations
+    // included in block. There is nothing to match them against if we sent no attestations.
+    final SafeFuture<Map<UInt64, List<Attestation>>> attestationsIncludedOnChainFuture =
+        producedAttestations.isEmpty()
+            ? SafeFuture.completedFuture(Collections.emptyMap())
+            : getAttestationsIncludedInEpochs(analyzedEpoch, analysisRangeEndEpoch);
     return combinedChainDataClient
         .getBestState()
         .orElseThrow()
@@ -303,15 +305,28 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
     int correctTargetCount = 0;
     int correctHeadBlockCount = 0;
 
+    final List<Attestation> sentAttestations =
+        producedAttestations.stream()
+            .map(attestation -> convertSingleAttestation(state, attestation))
+            .toList();
+    final Set<Bytes32> sentAttestationDataHashes =
+        sentAttestations.stream()
+            .map(attestation -> attestation.getData().hashTreeRoot())
+            .collect(Collectors.toSet());
+
     // Pre-process attestations included on chain to group them by
-    // data hash to inclusion slot to aggregation bitlist
+    // data hash to inclusion slot to aggregation bitlist. Only attestations with the same data as
+    // one we sent can match, so the bits of all other attestations are never built.
     final Map<Bytes32, NavigableMap<UInt64, AttestationBits>> slotAndBitlistsByAttestationDataHash =
         new HashMap<>();
     for (final Map.Entry<UInt64, List<Attestation>> entry :
         attestationsIncludedOnChain.entrySet()) {
       for (final Attestation attestation : entry.getValue()) {
-        final Optional<Int2IntMap> committeesSize = getCommitteesSize(attestation, state);
         final Bytes32 attestationDataHash = attestation.getData().hashTreeRoot();
+        if (!sentAttestationDataHashes.contains(attestationDataHash)) {
+          continue;
+        }
+        final Optional<Int2IntMap> committeesSize = getCommitteesSize(attestation, state);
         final NavigableMap<UInt64, AttestationBits> slotToBitlists =
             slotAndBitlistsByAttestationDataHash.computeIfAbsent(
                 attestationDataHash, __ -> new TreeMap<>());
@@ -325,8 +340,7 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
       }
     }
 
-    for (final Attestation sentAttestation : producedAttestations) {
-      final Attestation attestation = convertSingleAttestation(state, sentAttestation);
+    for (final Attestation attestation : sentAttestations) {
       final Bytes32 attestationDataHash = attestation.getData().hashTreeRoot();
       final UInt64 attestationSlot = attestation.getData().getSlot();
       if (!slotAndBitlistsByAttestationDataHash.containsKey(attestationDataHash)) {
@@ -420,7 +434,9 @@ public class DefaultPerformanceTracker implements PerformanceTracker {
                   maybeBlock.ifPresent(
                       block -> {
                         blocksInEpoch.add(block);
-                        currSlot.set(currSlot.get().minusMinZero(1));
+                        // Slots between this block and the current slot are empty, so continue
+                        // from the slot before the block rather than looking each of them up
+                        currSlot.set(block.getSlot().minusMinZero(1));
                       }))
           .thenApply(
               maybeBlock ->
@@ -14,16 +14,21 @@
 package tech.pegasys.teku.validator.coordinator;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.function.Consumer;
+import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class BlockProductionPreparationTriggerTest {
@@ -69,4 +74,30 @@ public class BlockProductionPreparationTriggerTest {
     verify(recentChainData).isBlockProposerConnected(blockPreparationSlot);
     verifyNoInteractions(blockProductionPreparator);
   }
+
+  @Test
+  void shouldPrecomputeStateOnHeadWhenInSyncAndProposerIsConnected() {
+    final Bytes32 headRoot = Bytes32.fromHexStringLenient("0x1234");
+    when(recentChainData.isBlockProposerConnected(blockPreparationSlot))
+        .thenReturn(SafeFuture.completedFuture(true));
+    when(recentChainData.getBestBlockRoot()).thenReturn(Optional.of(headRoot));
+    when(recentChainData.retrieveBlockState(any(SlotAndBlockRoot.class)))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    trigger.onSyncingStatusChanged(true);
+    trigger.onFutureBlockProductionStatePrecomputationDue(currentSlot);
+    asyncRunner.executeQueuedActions();
+    verify(recentChainData)
+        .retrieveBlockState(new SlotAndBlockRoot(blockPreparationSlot, headRoot));
+    verifyNoInteractions(blockProductionPreparator);
+  }
+
+  @Test
+  void shouldNotPrecomputeStateWhenProposerIsNotConnected() {
+    when(recentChainData.isBlockProposerConnected(blockPreparationSlot))
+        .thenReturn(SafeFuture.completedFuture(false));
+    trigger.onSyncingStatusChanged(true);
+    trigger.onFutureBlockProductionStatePrecomputationDue(currentSlot);
+    asyncRunner.executeQueuedActions();
+    verify(recentChainData, never()).retrieveBlockState(any(SlotAndBlockRoot.class));
+  }
 }
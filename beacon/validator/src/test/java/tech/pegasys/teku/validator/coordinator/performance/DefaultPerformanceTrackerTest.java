@@ -19,6 +19,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -168,6 +170,66 @@ public class DefaultPerformanceTrackerTest {
     verify(log).performance(expectedAttestationPerformance.toString());
   }
 
+  @TestTemplate
+  void shouldSkipEmptySlotsWhenLoadingBlocksForAttestationPerformance() {
+    final CombinedChainDataClient combinedChainDataClient =
+        spy(storageSystem.combinedChainDataClient());
+    performanceTracker =
+        new DefaultPerformanceTracker(
+            combinedChainDataClient,
+            log,
+            validatorPerformanceMetrics,
+            ValidatorPerformanceTrackingMode.ALL,
+            validatorTracker,
+            syncCommitteePerformanceTracker,
+            spec,
+            mock(SettableGauge.class));
+    performanceTracker.start(UInt64.ZERO);
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
+
+    ChainBuilder.BlockOptions block1Options = ChainBuilder.BlockOptions.create();
+    Attestation attestation1 = createAttestation(2, 1);
+    block1Options.addAttestation(attestation1);
+    SignedBlockAndState latestBlockAndState = chainBuilder.generateBlockAtSlot(2, block1Options);
+    chainUpdater.saveBlock(latestBlockAndState);
+    chainUpdater.updateBestBlock(latestBlockAndState);
+
+    performanceTracker.saveProducedAttestation(attestation1);
+    when(validatorTracker.getNumberOfValidatorsForEpoch(any())).thenReturn(1);
+
+    UInt64 slot = spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE);
+    performanceTracker.onSlot(slot);
+
+    UInt64 attestationEpoch = spec.computeEpochAtSlot(slot).minus(ATTESTATION_INCLUSION_RANGE);
+    AttestationPerformance expectedAttestationPerformance =
+        new AttestationPerformance(attestationEpoch, 1, 1, 1, 1, 1, 1, 1, 1);
+    verify(log).performance(expectedAttestationPerformance.toString());
+    // Only the blocks at slots 2, 1 and 0 are looked up, not every slot in the range
+    verify(combinedChainDataClient, times(3)).getBlockInEffectAtSlot(any());
+  }
+
+  @TestTemplate
+  void shouldNotLoadBlocksWhenNoAttestationsWereProduced() {
+    final CombinedChainDataClient combinedChainDataClient =
+        spy(storageSystem.combinedChainDataClient());
+    performanceTracker =
+        new DefaultPerformanceTracker(
+            combinedChainDataClient,
+            log,
+            validatorPerformanceMetrics,
+            ValidatorPerformanceTrackingMode.ALL,
+            validatorTracker,
+            syncCommitteePerformanceTracker,
+            spec,
+            mock(SettableGauge.class));
+    performanceTracker.start(UInt64.ZERO);
+    chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(10));
+
+    performanceTracker.onSlot(spec.computeStartSlotAtEpoch(ATTESTATION_INCLUSION_RANGE));
+
+    verify(combinedChainDataClient, never()).getBlockInEffectAtSlot(any());
+  }
+
   @TestTemplate
   void shouldDisplayInclusionDistanceOfMax2Min1() {
     chainUpdater.updateBestBlock(chainUpdater.advanceChainUntil(1));
@@ -111,6 +111,10 @@ public class EventSubscriber {
     return sseClient;
   }
 
+  public List<EventType> getEventTypes() {
+    return eventTypes;
+  }
+
   private void processEventQueue() {
     if (!stopped.get() && !processingQueue.compareAndSet(false, true)) {
       // any queue processing in progress will clear the queue, no need to run another instance
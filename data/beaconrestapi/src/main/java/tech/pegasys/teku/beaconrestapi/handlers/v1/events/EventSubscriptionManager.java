@@ -20,7 +20,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -79,8 +81,9 @@ public class EventSubscriptionManager
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
-  // collection of subscribers
-  private final Collection<EventSubscriber> eventSubscribers;
+  // subscribers indexed by the topics they subscribed to
+  private final Map<EventType, Collection<EventSubscriber>> eventSubscribersByTopic =
+      new ConcurrentHashMap<>();
 
   public EventSubscriptionManager(
       final Spec spec,
@@ -97,7 +100,6 @@ public class EventSubscriptionManager
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
-    this.eventSubscribers = new ConcurrentLinkedQueue<>();
     this.configProvider = configProvider;
     eventChannels.subscribe(ChainHeadChannel.class, this);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
@@ -128,13 +130,23 @@ public class EventSubscriptionManager
             allTopicsInContext,
             sseClient,
             () -> {
-              eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
+              eventSubscribersByTopic
+                  .values()
+                  .forEach(
+                      subscribers ->
+                          subscribers.removeIf(sub -> sub.getSseClient().equals(sseClient)));
               LOG.trace("disconnected " + sseClient.hashCode());
             },
             asyncRunner,
             timeProvider,
             maxPendingEvents);
-    eventSubscribers.add(subscriber);
+    subscriber.getEventTypes().stream()
+        .distinct()
+        .forEach(
+            eventType ->
+                eventSubscribersByTopic
+                    .computeIfAbsent(eventType, __ -> new ConcurrentLinkedQueue<>())
+                    .add(subscriber));
     subscriber.sendReadyComment();
   }
 
@@ -384,9 +396,15 @@ public class EventSubscriptionManager
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
+    final Collection<EventSubscriber> subscribers = eventSubscribersByTopic.get(eventType);
+    if (subscribers == null || subscribers.isEmpty()) {
+      // nobody is listening, so don't bother serializing the event
+      return;
+    }
+    // the event is serialized at most once and the same bytes are queued for every subscriber
     final EventSource<?> eventSource = new EventSource<>(event);
     try {
-      for (EventSubscriber subscriber : eventSubscribers) {
+      for (EventSubscriber subscriber : subscribers) {
         subscriber.onEvent(eventType, eventSource);
       }
     } catch (final JsonProcessingException e) {
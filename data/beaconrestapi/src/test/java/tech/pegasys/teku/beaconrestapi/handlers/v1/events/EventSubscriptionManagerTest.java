@@ -270,6 +270,18 @@ public class EventSubscriptionManagerTest {
     assertThat(outputStream.countEvents()).isEqualTo(2);
   }
 
+  @Test
+  void shouldNotPropagateMessagesForOtherTopics() {
+    when(req.getQueryString()).thenReturn("&topics=head,head");
+    manager.registerClient(client1);
+
+    triggerBlockEvent();
+    assertThat(outputStream.countEvents()).isZero();
+
+    triggerHeadEvent();
+    assertThat(outputStream.countEvents()).isEqualTo(1);
+  }
+
   @Test
   void shouldPropagateFinalizedCheckpointMessages() throws IOException {
     when(req.getQueryString()).thenReturn("&topics=finalized_checkpoint");
@@ -533,11 +533,13 @@ public class ChainDataProvider {
       final List<String> validators,
       final Set<ValidatorStatus> statusFilter) {
     final UInt64 epoch = spec.getCurrentEpoch(state);
-    return getValidatorSelector(state, validators)
-        .filter(getStatusPredicate(state, statusFilter))
-        .mapToObj(index -> StateValidatorData.fromState(state, index, epoch, FAR_FUTURE_EPOCH))
-        .flatMap(Optional::stream)
-        .toList();
+    final int validatorCount = state.getValidators().size();
+    final int[] validatorIndices =
+        getValidatorSelector(state, validators)
+            .filter(index -> index < validatorCount)
+            .filter(getStatusPredicate(state, statusFilter))
+            .toArray();
+    return new StateValidatorDataList(state, validatorIndices, epoch);
   }
 
   public Optional<ObjectAndMetaData<StateValidatorData>> getStateValidator(
@@ -0,0 +1,56 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.api;
+
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorData;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Read-only view of selected validators in a state.
+ *
+ * <p>Only the selected validator indices are held, each {@link StateValidatorData} is created from
+ * the (immutable) state when the element is accessed. This allows the response serializer to
+ * stream the validators directly from the state tree rather than materialising an entry per
+ * validator up front, which matters when the whole registry is requested.
+ */
+class StateValidatorDataList extends AbstractList<StateValidatorData> implements RandomAccess {
+  private final BeaconState state;
+  private final int[] validatorIndices;
+  private final UInt64 epoch;
+
+  StateValidatorDataList(
+      final BeaconState state, final int[] validatorIndices, final UInt64 epoch) {
+    this.state = state;
+    this.validatorIndices = validatorIndices;
+    this.epoch = epoch;
+  }
+
+  @Override
+  public StateValidatorData get(final int index) {
+    Objects.checkIndex(index, validatorIndices.length);
+    return StateValidatorData.fromState(state, validatorIndices[index], epoch, FAR_FUTURE_EPOCH)
+        .orElseThrow();
+  }
+
+  @Override
+  public int size() {
+    return validatorIndices.length;
+  }
+}
@@ -34,6 +34,7 @@ import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThat
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ZERO;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -61,6 +62,7 @@ import tech.pegasys.teku.api.migrated.StateValidatorIdentity;
 import tech.pegasys.teku.api.migrated.SyncCommitteeRewardData;
 import tech.pegasys.teku.api.provider.GenesisData;
 import tech.pegasys.teku.api.response.ValidatorStatus;
+import tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorData;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.SafeFutureAssert;
 import tech.pegasys.teku.infrastructure.bytes.Bytes20;
@@ -401,6 +403,28 @@ public class ChainDataProviderTest extends AbstractChainDataProviderTest {
         .hasSize(0);
   }
 
+  @Test
+  public void filteredValidatorsList_shouldCreateValidatorDataFromState() {
+    final BeaconState internalState = data.randomBeaconState(64);
+    final ChainDataProvider provider =
+        new ChainDataProvider(
+            spec,
+            recentChainData,
+            combinedChainDataClient,
+            rewardCalculatorMock,
+            mockBlobSidecarReconstructionProvider,
+            mockBlobReconstructionProvider);
+    final UInt64 epoch = spec.getCurrentEpoch(internalState);
+
+    final List<StateValidatorData> validators =
+        provider.getFilteredValidatorList(internalState, List.of("3", "64", "7"), emptySet());
+
+    assertThat(validators)
+        .containsExactly(
+            StateValidatorData.fromState(internalState, 3, epoch, FAR_FUTURE_EPOCH).orElseThrow(),
+            StateValidatorData.fromState(internalState, 7, epoch, FAR_FUTURE_EPOCH).orElseThrow());
+  }
+
   @Test
   public void getStateCommittees_shouldReturnEmptyIfStateNotFound()
       throws ExecutionException, InterruptedException {
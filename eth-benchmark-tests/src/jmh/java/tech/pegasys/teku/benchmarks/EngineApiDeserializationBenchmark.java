@@ -13,12 +13,17 @@
 
 package tech.pegasys.teku.benchmarks;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
@@ -44,7 +49,8 @@ import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 /**
  * Benchmarks Jackson deserialization for Engine API engine_getBlobsV2 and engine_getPayloadV5. Uses
- * the same ObjectMapper configuration as AbstractExecutionEngineClient
+ * the same ObjectMapper configuration as AbstractExecutionEngineClient. The JSON-RPC envelope
+ * benchmarks compare tree based and streaming decoding of a full HTTP response body.
  *
  * <p>Run with: ./gradlew :eth-benchmark-tests:jmh --tests "*.EngineApiDeserializationBenchmark"
  */
@@ -75,6 +81,7 @@ public class EngineApiDeserializationBenchmark {
 
   private String blobsAndProofsV2Json;
   private String getPayloadV5ResponseJson;
+  private byte[] getPayloadV5JsonRpcResponseBytes;
 
   @Setup(Level.Trial)
   public void setup() throws Exception {
@@ -105,6 +112,9 @@ public class EngineApiDeserializationBenchmark {
             dataStructureUtil.randomEncodedExecutionRequests());
 
     getPayloadV5ResponseJson = OBJECT_MAPPER.writeValueAsString(getPayloadV5Response);
+    getPayloadV5JsonRpcResponseBytes =
+        ("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + getPayloadV5ResponseJson + "}")
+            .getBytes(UTF_8);
   }
 
   @Benchmark
@@ -116,4 +126,34 @@ public class EngineApiDeserializationBenchmark {
   public GetPayloadV5Response deserializeGetPayloadV5Response() throws Exception {
     return OBJECT_MAPPER.readValue(getPayloadV5ResponseJson, GET_PAYLOAD_V5_RESPONSE_TYPE);
   }
+
+  /** Reads the full JSON-RPC envelope into a tree first, then converts the result node. */
+  @Benchmark
+  public GetPayloadV5Response deserializeGetPayloadV5JsonRpcResponseViaTree() throws Exception {
+    final JsonNode jsonResponse =
+        OBJECT_MAPPER.readTree(new ByteArrayInputStream(getPayloadV5JsonRpcResponseBytes));
+    final JsonNode resultNode = jsonResponse.get("result");
+    return OBJECT_MAPPER.treeToValue(
+        resultNode, OBJECT_MAPPER.constructType(GetPayloadV5Response.class));
+  }
+
+  /** Streams the JSON-RPC envelope, deserializing the result directly as done by the client. */
+  @Benchmark
+  public GetPayloadV5Response deserializeGetPayloadV5JsonRpcResponseStreaming() throws Exception {
+    try (final JsonParser parser =
+        OBJECT_MAPPER.createParser(new ByteArrayInputStream(getPayloadV5JsonRpcResponseBytes))) {
+      parser.nextToken();
+      GetPayloadV5Response result = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        parser.nextToken();
+        if (fieldName.equals("result")) {
+          result = OBJECT_MAPPER.readValue(parser, GetPayloadV5Response.class);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      return result;
+    }
+  }
 }
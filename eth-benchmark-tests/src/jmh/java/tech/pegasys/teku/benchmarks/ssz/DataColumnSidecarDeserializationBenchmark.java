@@ -15,6 +15,7 @@ package tech.pegasys.teku.benchmarks.ssz;
 
 import java.util.concurrent.TimeUnit;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -82,4 +83,14 @@ public class DataColumnSidecarDeserializationBenchmark {
   public DataColumnSidecar deserializeDataColumnSidecar() {
     return schema.sszDeserialize(serializedSidecar);
   }
+
+  @Benchmark
+  public Bytes32 deserializeAndHashDataColumnSidecar() {
+    return schema.sszDeserialize(serializedSidecar).hashTreeRoot();
+  }
+
+  @Benchmark
+  public Bytes deserializeAndReserializeDataColumnSidecar() {
+    return schema.sszDeserialize(serializedSidecar).sszSerialize();
+  }
 }
@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
@@ -93,4 +94,21 @@ public class ListBenchmark {
     SszList<SszUInt64> l2r_ = l2w.commitChanges();
     l2r_.hashTreeRoot();
   }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void readAllElements(Blackhole bh) {
+    final SszUInt64List list = (SszUInt64List) l2r;
+    for (int i = 0; i < list.size(); i++) {
+      bh.consume(list.getElement(i));
+    }
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 100, timeUnit = TimeUnit.MILLISECONDS)
+  public void readAllElementsToLongArray(Blackhole bh) {
+    bh.consume(((SszUInt64List) l2r).toLongArray());
+  }
 }
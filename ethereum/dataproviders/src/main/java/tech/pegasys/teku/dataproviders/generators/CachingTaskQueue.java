@@ -28,6 +28,8 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
@@ -39,10 +41,12 @@ public class CachingTaskQueue<K, V> {
   private final Counter duplicateTaskCounter;
   private final Counter newTaskCounter;
   private final Counter rebasedTaskCounter;
+  private final OperationTimer queuedTimer;
+  private final OperationTimer computeTimer;
 
   private final ConcurrentMap<K, SafeFuture<Optional<V>>> pendingTasks = new ConcurrentHashMap<>();
   private final AtomicInteger activeTasks = new AtomicInteger(0);
-  private final Queue<CacheableTask<K, V>> queuedTasks = new ConcurrentLinkedQueue<>();
+  private final Queue<QueuedTask<K, V>> queuedTasks = new ConcurrentLinkedQueue<>();
 
   private final Map<K, V> cache;
   private final AsyncRunner asyncRunner;
@@ -72,6 +76,15 @@ public class CachingTaskQueue<K, V> {
     cachedTaskCounter = labelledCounter.labels("cached");
     newTaskCounter = labelledCounter.labels("new");
     rebasedTaskCounter = labelledCounter.labels("rebase");
+
+    final LabelledMetric<OperationTimer> labelledTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.STORAGE,
+            metricsPrefix + "_task_duration_seconds",
+            "Time tasks spend waiting in the queue and being computed",
+            "phase");
+    queuedTimer = labelledTimer.labels("queued");
+    computeTimer = labelledTimer.labels("compute");
   }
 
   public static <K, V> CachingTaskQueue<K, V> create(
@@ -152,7 +165,7 @@ public class CachingTaskQueue<K, V> {
   }
 
   private void queueTask(final CacheableTask<K, V> task) {
-    queuedTasks.add(task);
+    queuedTasks.add(new QueuedTask<>(task, queuedTimer.startTimer()));
     tryProcessNext();
   }
 
@@ -163,14 +176,20 @@ public class CachingTaskQueue<K, V> {
   }
 
   private void processNext() {
-    final CacheableTask<K, V> task = queuedTasks.poll();
-    if (task == null) {
+    final QueuedTask<K, V> queuedTask = queuedTasks.poll();
+    if (queuedTask == null) {
       activeTasks.decrementAndGet();
       return;
     }
+    queuedTask.queuedTimingContext().stopTimer();
+    final CacheableTask<K, V> task = queuedTask.task();
     activeTasks.incrementAndGet();
     asyncRunner
-        .runAsync(task::performTask)
+        .runAsync(
+            () -> {
+              final TimingContext computeTimingContext = computeTimer.startTimer();
+              return task.performTask().alwaysRun(computeTimingContext::stopTimer);
+            })
         .thenPeek(result -> result.ifPresent(value -> cache(task.getKey(), value)))
         .handle(
             (result, error) -> {
@@ -222,6 +241,8 @@ public class CachingTaskQueue<K, V> {
     cache.clear();
   }
 
+  private record QueuedTask<K, V>(CacheableTask<K, V> task, TimingContext queuedTimingContext) {}
+
   public interface CacheableTask<K, V> {
     /**
      * The key that uniquely identifies this task. Two tasks with equal keys should also have
@@ -63,6 +63,17 @@ class CachingTaskQueueTest {
     assertThat(result).isCompletedWithValue(task.getExpectedValue());
   }
 
+  @Test
+  void shouldRecordQueuedAndComputeTimes() {
+    final StubTask task = new StubTask(4);
+    taskQueue.perform(task);
+    assertThat(getTaskDuration("queued")).isPresent();
+    assertThat(getTaskDuration("compute")).isEmpty();
+
+    task.completeTask();
+    assertThat(getTaskDuration("compute")).isPresent();
+  }
+
   @Test
   void shouldCacheResultOfPreviousTask() {
     final StubTask task1 = new StubTask(4);
@@ -262,6 +273,13 @@ class CachingTaskQueueTest {
     assertThat(taskQueue.getIfAvailable(task.getKey())).isEqualTo(task.getExpectedValue());
   }
 
+  private OptionalDouble getTaskDuration(final String phase) {
+    return metricsSystem
+        .getLabelledOperationTimer(
+            TekuMetricCategory.STORAGE, METRICS_PREFIX + "_task_duration_seconds")
+        .getAverageDuration(phase);
+  }
+
   private void assertCacheSizeMetric(final int expectedSize) {
     final double value =
         metricsSystem
@@ -15,9 +15,13 @@ package tech.pegasys.teku.ethereum.executionclient;
 
 import static tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil.getMessageOrSimpleName;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
 import okhttp3.Call;
@@ -106,8 +110,9 @@ public class OkHttpHttpExecutionEngineClient extends AbstractExecutionEngineClie
                 return;
               }
 
-              final JsonNode jsonResponse = objectMapper.readTree(body.byteStream());
-              final JsonNode errorNode = jsonResponse.get("error");
+              final JsonRpcResponse<T> jsonResponse =
+                  readJsonRpcResponse(body.byteStream(), resultType);
+              final JsonNode errorNode = jsonResponse.error();
               if (errorNode != null && !errorNode.isNull()) {
                 final int code = errorNode.path("code").asInt();
                 final String msg = errorNode.path("message").asText();
@@ -122,11 +127,7 @@ public class OkHttpHttpExecutionEngineClient extends AbstractExecutionEngineClie
               }
 
               handleSuccess(isCritical);
-              final JsonNode resultNode = jsonResponse.get("result");
-              final T result =
-                  resultNode == null || resultNode.isNull()
-                      ? null
-                      : objectMapper.treeToValue(resultNode, resultType);
+              final T result = jsonResponse.result();
               future.complete(Response.fromPayloadReceivedAsJson(result));
             } catch (final Exception e) {
               handleError(isCritical, e, false);
@@ -138,6 +139,38 @@ public class OkHttpHttpExecutionEngineClient extends AbstractExecutionEngineClie
     return future;
   }
 
+  /**
+   * Reads the JSON-RPC response envelope with a streaming parser, deserializing the result directly
+   * into the target type. This avoids building an intermediate {@link JsonNode} tree holding every
+   * hex encoded transaction, blob and proof as a string before converting it.
+   */
+  private <T> JsonRpcResponse<T> readJsonRpcResponse(
+      final InputStream inputStream, final JavaType resultType) throws IOException {
+    try (final JsonParser parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected JSON-RPC response object");
+      }
+      JsonNode error = null;
+      T result = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String fieldName = parser.currentName();
+        final JsonToken valueToken = parser.nextToken();
+        switch (fieldName) {
+          case "result" ->
+              result =
+                  valueToken == JsonToken.VALUE_NULL
+                      ? null
+                      : objectMapper.readValue(parser, resultType);
+          case "error" -> error = objectMapper.readTree(parser);
+          default -> parser.skipChildren();
+        }
+      }
+      return new JsonRpcResponse<>(result, error);
+    }
+  }
+
+  private record JsonRpcResponse<T>(T result, JsonNode error) {}
+
   private Call callWithCustomTimeout(final Duration timeout, final Request httpRequest) {
     return httpClient
         .newBuilder()
@@ -141,6 +141,45 @@ class OkHttpHttpExecutionEngineClientTest {
     verify(spyOkHttpClient).newBuilder();
   }
 
+  @Test
+  void readsResultRegardlessOfFieldOrder() throws Exception {
+    createClientWithCallTimeout(Duration.ofSeconds(1));
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setBody(
+                "{\"result\":[\"engine_newPayloadV1\"],"
+                    + "\"extra\":{\"nested\":[1,2]},\"id\":1,\"jsonrpc\":\"2.0\"}"));
+
+    final Response<List<String>> response =
+        engineClient
+            .exchangeCapabilities(List.of("engine_newPayloadV1"))
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(response.isSuccess()).isTrue();
+    assertThat(response.payload()).containsExactly("engine_newPayloadV1");
+  }
+
+  @Test
+  void returnsJsonRpcError() throws Exception {
+    createClientWithCallTimeout(Duration.ofSeconds(1));
+
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setBody(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,"
+                    + "\"error\":{\"code\":-32601,\"message\":\"nope\"}}"));
+
+    final Response<List<String>> response =
+        engineClient
+            .exchangeCapabilities(List.of("engine_newPayloadV1"))
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(response.isFailure()).isTrue();
+    assertThat(response.errorMessage())
+        .isEqualTo("JSON-RPC error: Method not found (-32601): nope");
+  }
+
   private void createClientWithCallTimeout(final Duration callTimeout) {
     final OkHttpClient httpClient = new OkHttpClient.Builder().callTimeout(callTimeout).build();
     spyOkHttpClient = spy(httpClient);
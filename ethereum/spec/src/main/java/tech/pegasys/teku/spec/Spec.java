@@ -99,6 +99,7 @@ import tech.pegasys.teku.spec.datastructures.operations.ProposerSlashing;
 import tech.pegasys.teku.spec.datastructures.operations.SignedBlsToExecutionChange;
 import tech.pegasys.teku.spec.datastructures.operations.SignedVoluntaryExit;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.state.Fork;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateInvariants;
@@ -1262,11 +1263,9 @@ public class Spec {
     return atEpoch(epoch).getValidatorsUtil().getCommitteeAssignment(state, epoch, validatorIndex);
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
+  public EpochCommitteeAssignments getEpochCommitteeAssignments(
       final BeaconState state, final UInt64 epoch) {
-    return atEpoch(epoch)
-        .getValidatorsUtil()
-        .getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+    return atEpoch(epoch).getValidatorsUtil().getEpochCommitteeAssignments(state, epoch);
   }
 
   // get_ptc_assignment
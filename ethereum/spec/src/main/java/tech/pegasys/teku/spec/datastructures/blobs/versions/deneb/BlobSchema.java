@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.datastructures.blobs.versions.deneb;
 
 import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.impl.SszByteVectorSchemaImpl;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.spec.config.SpecConfigDeneb;
@@ -26,7 +27,8 @@ public class BlobSchema extends SszByteVectorSchemaImpl<Blob> {
         SszPrimitiveSchemas.BYTE_SCHEMA,
         SpecConfigDeneb.BYTES_PER_FIELD_ELEMENT
             .times(specConfig.getFieldElementsPerBlob())
-            .longValue());
+            .longValue(),
+        SszSchemaHints.sszPackedBytes());
   }
 
   public Blob create(final Bytes bytes) {
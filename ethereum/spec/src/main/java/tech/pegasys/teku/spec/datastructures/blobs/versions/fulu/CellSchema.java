@@ -14,6 +14,7 @@
 package tech.pegasys.teku.spec.datastructures.blobs.versions.fulu;
 
 import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.impl.SszByteVectorSchemaImpl;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.spec.config.SpecConfigDeneb;
@@ -24,7 +25,8 @@ public class CellSchema extends SszByteVectorSchemaImpl<Cell> {
   public CellSchema(final SpecConfigFulu specConfig) {
     super(
         SpecConfigDeneb.BYTES_PER_FIELD_ELEMENT.longValue()
-            * specConfig.getFieldElementsPerCell().longValue());
+            * specConfig.getFieldElementsPerCell().longValue(),
+        SszSchemaHints.sszPackedBytes());
   }
 
   public Cell create(final Bytes bytes) {
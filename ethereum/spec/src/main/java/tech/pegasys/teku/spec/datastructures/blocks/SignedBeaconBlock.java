@@ -19,6 +19,7 @@ import it.unimi.dsi.fastutil.longs.LongList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.ssz.containers.Container2;
@@ -34,13 +35,26 @@ import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 public class SignedBeaconBlock extends Container2<SignedBeaconBlock, BeaconBlock, SszSignature>
     implements BeaconBlockSummary, SignedBlockContainer {
 
+  // The SSZ this block was deserialized from, so it can be gossiped, served or stored again without
+  // walking the tree
+  private final Optional<Bytes> sszBytes;
+
   SignedBeaconBlock(final SignedBeaconBlockSchema type, final TreeNode backingNode) {
+    this(type, backingNode, Optional.empty());
+  }
+
+  SignedBeaconBlock(
+      final SignedBeaconBlockSchema type,
+      final TreeNode backingNode,
+      final Optional<Bytes> sszBytes) {
     super(type, backingNode);
+    this.sszBytes = sszBytes;
   }
 
   SignedBeaconBlock(
       final SignedBeaconBlockSchema type, final BeaconBlock message, final BLSSignature signature) {
     super(type, message, new SszSignature(signature));
+    this.sszBytes = Optional.empty();
   }
 
   public static SignedBeaconBlock create(
@@ -123,6 +137,11 @@ public class SignedBeaconBlock extends Container2<SignedBeaconBlock, BeaconBlock
     return (SignedBeaconBlockSchema) super.getSchema();
   }
 
+  @Override
+  public Bytes sszSerialize() {
+    return sszBytes.orElseGet(super::sszSerialize);
+  }
+
   public BeaconBlock getMessage() {
     return getField0();
   }
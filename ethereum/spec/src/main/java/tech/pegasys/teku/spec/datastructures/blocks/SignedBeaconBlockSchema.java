@@ -14,9 +14,13 @@
 package tech.pegasys.teku.spec.datastructures.blocks;
 
 import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Optional;
 import java.util.OptionalLong;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema2;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
 import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.spec.datastructures.type.SszSignature;
@@ -59,6 +63,19 @@ public class SignedBeaconBlockSchema
     return new SignedBeaconBlock(this, node);
   }
 
+  /**
+   * Deserializes a block which keeps {@code ssz} so that serializing it again, e.g. to publish it
+   * to gossip or serve it over RPC, doesn't need to walk the tree.
+   */
+  @Override
+  public SignedBeaconBlock sszDeserialize(final Bytes ssz) throws SszDeserializeException {
+    return createFromBackingNode(sszDeserializeTree(SszReader.fromBytes(ssz)), ssz);
+  }
+
+  SignedBeaconBlock createFromBackingNode(final TreeNode node, final Bytes ssz) {
+    return new SignedBeaconBlock(this, node, Optional.of(ssz));
+  }
+
   public LongList getBlindedNodeGeneralizedIndices() {
     return GIndexUtil.gIdxComposeAll(
         getChildGeneralizedIndex(getFieldIndex(SignedBeaconBlockFields.MESSAGE)),
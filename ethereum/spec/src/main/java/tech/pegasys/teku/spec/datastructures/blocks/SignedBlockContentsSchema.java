@@ -13,7 +13,9 @@
 
 package tech.pegasys.teku.spec.datastructures.blocks;
 
+import java.nio.ByteOrder;
 import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszFieldName;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
@@ -45,6 +47,26 @@ public interface SignedBlockContentsSchema<T extends SignedBlockContainer>
   @Override
   T createFromBackingNode(TreeNode node);
 
+  /**
+   * Recreates {@code contents} with a signed block that keeps its part of {@code ssz}, so the block
+   * can be published without serializing it again.
+   *
+   * <p>All fields are variable size, so the signed block runs from the first offset to the second.
+   */
+  default T withSignedBlockSsz(final T contents, final Bytes ssz) {
+    final int blockStart = ssz.getInt(0, ByteOrder.LITTLE_ENDIAN);
+    final int blockEnd = ssz.getInt(SSZ_LENGTH_SIZE, ByteOrder.LITTLE_ENDIAN);
+    // Copied so the block doesn't keep the blobs reachable
+    final Bytes signedBlockSsz = ssz.slice(blockStart, blockEnd - blockStart).copy();
+    final SignedBeaconBlock signedBlock = contents.getSignedBlock();
+    final SignedBeaconBlock signedBlockWithSsz =
+        signedBlock.getSchema().createFromBackingNode(signedBlock.getBackingNode(), signedBlockSsz);
+    return create(
+        signedBlockWithSsz,
+        contents.getKzgProofs().orElseThrow(),
+        contents.getBlobs().orElseThrow());
+  }
+
   SszListSchema<SszKZGProof, ?> getKzgProofsSchema();
 
   SszListSchema<Blob, ?> getBlobsSchema();
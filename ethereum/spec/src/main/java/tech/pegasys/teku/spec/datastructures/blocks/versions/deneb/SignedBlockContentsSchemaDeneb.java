@@ -16,9 +16,11 @@ package tech.pegasys.teku.spec.datastructures.blocks.versions.deneb;
 import static tech.pegasys.teku.spec.schemas.registry.SchemaTypes.BLOB_SCHEMA;
 import static tech.pegasys.teku.spec.schemas.registry.SchemaTypes.SIGNED_BEACON_BLOCK_SCHEMA;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema3;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.spec.config.SpecConfigDeneb;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.Blob;
@@ -64,6 +66,11 @@ public class SignedBlockContentsSchemaDeneb
     return new SignedBlockContentsDeneb(this, node);
   }
 
+  @Override
+  public SignedBlockContentsDeneb sszDeserialize(final Bytes ssz) throws SszDeserializeException {
+    return withSignedBlockSsz(super.sszDeserialize(ssz), ssz);
+  }
+
   public SignedBeaconBlockSchema getSignedBeaconBlockSchema() {
     return (SignedBeaconBlockSchema) getFieldSchema0();
   }
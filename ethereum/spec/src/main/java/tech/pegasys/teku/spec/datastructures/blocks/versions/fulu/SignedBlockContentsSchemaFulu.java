@@ -17,9 +17,11 @@ import static tech.pegasys.teku.kzg.KZG.FIELD_ELEMENTS_PER_EXT_BLOB;
 import static tech.pegasys.teku.spec.schemas.registry.SchemaTypes.BLOB_SCHEMA;
 import static tech.pegasys.teku.spec.schemas.registry.SchemaTypes.SIGNED_BEACON_BLOCK_SCHEMA;
 
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema3;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.spec.config.SpecConfigFulu;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.Blob;
@@ -66,6 +68,11 @@ public class SignedBlockContentsSchemaFulu
     return new SignedBlockContentsFulu(this, node);
   }
 
+  @Override
+  public SignedBlockContentsFulu sszDeserialize(final Bytes ssz) throws SszDeserializeException {
+    return withSignedBlockSsz(super.sszDeserialize(ssz), ssz);
+  }
+
   public SignedBeaconBlockSchema getSignedBeaconBlockSchema() {
     return (SignedBeaconBlockSchema) getFieldSchema0();
   }
@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.state;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * The attestation committees of an epoch, indexed by validator index so that the committee and
+ * position of any validator can be found without scanning the committees.
+ *
+ * <p>The committee ordinal and position of each validator are packed into a single int, with the
+ * ordinal in the upper and the position in the lower 16 bits, to keep one array per epoch.
+ */
+public class EpochCommitteeAssignments {
+  private static final int UNASSIGNED = -1;
+  private static final int POSITION_BITS = 16;
+  private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+  private static final int MAX_COMMITTEES = 1 << (Integer.SIZE - 1 - POSITION_BITS);
+
+  private final List<CommitteeAssignment> committees;
+  private final int[] assignmentByValidatorIndex;
+
+  private EpochCommitteeAssignments(
+      final List<CommitteeAssignment> committees, final int[] assignmentByValidatorIndex) {
+    this.committees = committees;
+    this.assignmentByValidatorIndex = assignmentByValidatorIndex;
+  }
+
+  /**
+   * @param committees all committees of the epoch, ordered by slot and then committee index
+   */
+  public static EpochCommitteeAssignments create(final List<CommitteeAssignment> committees) {
+    checkArgument(
+        committees.size() <= MAX_COMMITTEES, "Too many committees: %s", committees.size());
+    final int maxValidatorIndex =
+        committees.stream()
+            .map(CommitteeAssignment::committee)
+            .flatMapToInt(IntList::intStream)
+            .max()
+            .orElse(UNASSIGNED);
+    final int[] assignmentByValidatorIndex = new int[maxValidatorIndex + 1];
+    Arrays.fill(assignmentByValidatorIndex, UNASSIGNED);
+    for (int i = 0; i < committees.size(); i++) {
+      final IntList committee = committees.get(i).committee();
+      checkArgument(
+          committee.size() <= POSITION_MASK + 1, "Committee too large: %s", committee.size());
+      for (int position = 0; position < committee.size(); position++) {
+        assignmentByValidatorIndex[committee.getInt(position)] = (i << POSITION_BITS) | position;
+      }
+    }
+    return new EpochCommitteeAssignments(List.copyOf(committees), assignmentByValidatorIndex);
+  }
+
+  /**
+   * @return all committees of the epoch, ordered by slot and then committee index
+   */
+  public List<CommitteeAssignment> getCommittees() {
+    return committees;
+  }
+
+  public Optional<CommitteeAssignment> getCommitteeAssignment(final int validatorIndex) {
+    final int assignment = getAssignment(validatorIndex);
+    return assignment == UNASSIGNED
+        ? Optional.empty()
+        : Optional.of(committees.get(assignment >>> POSITION_BITS));
+  }
+
+  /**
+   * @return the position of the validator within its assigned committee
+   */
+  public OptionalInt getPositionInCommittee(final int validatorIndex) {
+    final int assignment = getAssignment(validatorIndex);
+    return assignment == UNASSIGNED
+        ? OptionalInt.empty()
+        : OptionalInt.of(assignment & POSITION_MASK);
+  }
+
+  private int getAssignment(final int validatorIndex) {
+    if (validatorIndex < 0 || validatorIndex >= assignmentByValidatorIndex.length) {
+      return UNASSIGNED;
+    }
+    return assignmentByValidatorIndex[validatorIndex];
+  }
+}
@@ -25,6 +25,7 @@ import tech.pegasys.teku.infrastructure.collections.cache.Cache;
 import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
 import tech.pegasys.teku.infrastructure.collections.cache.NoOpCache;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.util.SyncSubcommitteeAssignments;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesUpdates;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
@@ -38,6 +39,7 @@ public class TransitionCaches {
   private static final int MAX_BEACON_COMMITTEES_SIZE_CACHE = 64;
   private static final int MAX_TOTAL_ACTIVE_BALANCE_CACHE = 2;
   private static final int MAX_COMMITTEE_SHUFFLE_CACHE = 3;
+  private static final int MAX_EPOCH_COMMITTEE_ASSIGNMENTS_CACHE = 2;
   private static final int MAX_EFFECTIVE_BALANCE_CACHE = 1;
   private static final int MAX_SYNC_COMMITTEE_CACHE = 2;
   public static final int MAX_BASE_REWARD_PER_INCREMENT_CACHE = 1;
@@ -56,6 +58,7 @@ public class TransitionCaches {
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
           NoOpCache.getNoOpCache(),
+          NoOpCache.getNoOpCache(),
           ProgressiveTotalBalancesUpdates.NOOP,
           NoOpCache.getNoOpCache(),
           BuilderIndexCache.NO_OP_INSTANCE) {
@@ -85,6 +88,7 @@ public class TransitionCaches {
   private final Cache<UInt64, BLSPublicKey> validatorsPubKeys;
   private final ValidatorIndexCache validatorIndexCache;
   private final Cache<Bytes32, IntList> committeeShuffle;
+  private final Cache<UInt64, EpochCommitteeAssignments> epochCommitteeAssignments;
   private final Cache<UInt64, List<UInt64>> effectiveBalances;
   private final Cache<UInt64, UInt64> baseRewardPerIncrement;
   private final Cache<UInt64, BLSPublicKey> buildersPubKeys;
@@ -105,6 +109,7 @@ public class TransitionCaches {
     validatorsPubKeys = LRUCache.create(Integer.MAX_VALUE - 1);
     validatorIndexCache = new ValidatorIndexCache();
     committeeShuffle = LRUCache.create(MAX_COMMITTEE_SHUFFLE_CACHE);
+    epochCommitteeAssignments = LRUCache.create(MAX_EPOCH_COMMITTEE_ASSIGNMENTS_CACHE);
     effectiveBalances = LRUCache.create(MAX_EFFECTIVE_BALANCE_CACHE);
     syncCommitteeCache = LRUCache.create(MAX_SYNC_COMMITTEE_CACHE);
     baseRewardPerIncrement = LRUCache.create(MAX_BASE_REWARD_PER_INCREMENT_CACHE);
@@ -123,6 +128,7 @@ public class TransitionCaches {
       final Cache<UInt64, BLSPublicKey> validatorsPubKeys,
       final ValidatorIndexCache validatorIndexCache,
       final Cache<Bytes32, IntList> committeeShuffle,
+      final Cache<UInt64, EpochCommitteeAssignments> epochCommitteeAssignments,
       final Cache<UInt64, List<UInt64>> effectiveBalances,
       final Cache<UInt64, Map<UInt64, SyncSubcommitteeAssignments>> syncCommitteeCache,
       final Cache<UInt64, UInt64> baseRewardPerIncrement,
@@ -138,6 +144,7 @@ public class TransitionCaches {
     this.validatorsPubKeys = validatorsPubKeys;
     this.validatorIndexCache = validatorIndexCache;
     this.committeeShuffle = committeeShuffle;
+    this.epochCommitteeAssignments = epochCommitteeAssignments;
     this.effectiveBalances = effectiveBalances;
     this.syncCommitteeCache = syncCommitteeCache;
     this.baseRewardPerIncrement = baseRewardPerIncrement;
@@ -215,6 +222,11 @@ public class TransitionCaches {
     return committeeShuffle;
   }
 
+  /** (epoch) -> (committee assignments indexed by validator index) cache */
+  public Cache<UInt64, EpochCommitteeAssignments> getEpochCommitteeAssignments() {
+    return epochCommitteeAssignments;
+  }
+
   /**
    * (epoch) -> (validator effective balances) cache. Note that inactive validators report an
    * effective balance of 0.
@@ -259,6 +271,7 @@ public class TransitionCaches {
         validatorsPubKeys,
         validatorIndexCache,
         committeeShuffle.copy(),
+        epochCommitteeAssignments.copy(),
         effectiveBalances.copy(),
         syncCommitteeCache.copy(),
         baseRewardPerIncrement.copy(),
@@ -27,7 +27,6 @@ import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.time.Throttler;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -343,6 +342,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   protected void applyDeltas(
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
+    final long[] balanceValues = balances.toLongArray();
     // To optimize performance, calculate validator size once outside of the loop
     int validatorsCount = state.getValidators().size();
     for (int i = 0; i < validatorsCount; i++) {
@@ -350,9 +350,11 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       if (delta.isZero()) {
         continue;
       }
-      final UInt64 newBalance =
-          balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty());
-      balances.setElement(i, newBalance);
+      final long newBalance =
+          UInt64.subtractMinZero(
+              UInt64.addExact(balanceValues[i], delta.getRewardLongBits()),
+              delta.getPenaltyLongBits());
+      balances.setElement(i, UInt64.fromLongBits(newBalance));
     }
   }
 
@@ -492,27 +494,29 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       final MutableBeaconState state, final List<ValidatorStatus> statuses) {
     // Update effective balances with hysteresis
     final SszMutableList<Validator> validators = state.getValidators();
-    final SszUInt64List balances = state.getBalances();
-    final UInt64 hysteresisUpwardMultiplier = specConfig.getHysteresisUpwardMultiplier();
-    final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
+    final long[] balances = state.getBalances().toLongArray();
     final UInt64 maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
-    final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
+    final long hysteresisIncrement =
+        effectiveBalanceIncrement.dividedBy(specConfig.getHysteresisQuotient()).longValue();
+    final long downwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisDownwardMultiplier().longValue());
+    final long upwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisUpwardMultiplier().longValue());
     for (int index = 0; index < statuses.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
-      if (shouldDecreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance, hysteresisDownwardMultiplier)
+      final long balanceValue = balances[index];
+      final long currentEffectiveBalance = status.getCurrentEpochEffectiveBalance().longValue();
+      if (shouldDecreaseEffectiveBalance(balanceValue, downwardThreshold, currentEffectiveBalance)
           || shouldIncreaseEffectiveBalance(
-              balance,
-              hysteresisIncrement,
+              balanceValue,
+              upwardThreshold,
               currentEffectiveBalance,
-              hysteresisUpwardMultiplier,
-              maxEffectiveBalance)) {
+              maxEffectiveBalance.longValue())) {
         final Validator validator = validators.get(index);
+        final UInt64 balance = UInt64.fromLongBits(balanceValue);
         final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
         final UInt64 newEffectiveBalance =
             effectiveBalanceLimit.min(
@@ -529,26 +533,25 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     return specConfig.getMaxEffectiveBalance();
   }
 
+  /** All values are unsigned longs as this is checked for every validator. */
   protected boolean shouldIncreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance,
-      final UInt64 hysteresisUpwardMultiplier,
-      final UInt64 maxEffectiveBalance) {
-    final UInt64 upwardThreshold = hysteresisIncrement.times(hysteresisUpwardMultiplier);
+      final long balance,
+      final long upwardThreshold,
+      final long currentEffectiveBalance,
+      final long maxEffectiveBalance) {
     // This condition doesn't match the spec but is an optimisation to avoid creating a new
     // validator with the same effective balance when it's already at the maximum.
-    return !currentEffectiveBalance.equals(maxEffectiveBalance)
-        && currentEffectiveBalance.plus(upwardThreshold).isLessThan(balance);
+    if (currentEffectiveBalance == maxEffectiveBalance) {
+      return false;
+    }
+    final long upperBound = UInt64.addExact(currentEffectiveBalance, upwardThreshold);
+    return Long.compareUnsigned(upperBound, balance) < 0;
   }
 
   protected boolean shouldDecreaseEffectiveBalance(
-      final UInt64 balance,
-      final UInt64 hysteresisIncrement,
-      final UInt64 currentEffectiveBalance,
-      final UInt64 hysteresisDownwardMultiplier) {
-    final UInt64 downwardThreshold = hysteresisIncrement.times(hysteresisDownwardMultiplier);
-    return balance.plus(downwardThreshold).isLessThan(currentEffectiveBalance);
+      final long balance, final long downwardThreshold, final long currentEffectiveBalance) {
+    final long lowerBound = UInt64.addExact(balance, downwardThreshold);
+    return Long.compareUnsigned(lowerBound, currentEffectiveBalance) < 0;
   }
 
   @Override
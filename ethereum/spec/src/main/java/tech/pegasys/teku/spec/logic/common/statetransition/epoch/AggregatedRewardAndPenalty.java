@@ -17,43 +17,61 @@ import com.google.common.base.MoreObjects;
 import java.util.Objects;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
+/**
+ * Accumulates the total reward and penalty for a validator.
+ *
+ * <p>Totals are held as unsigned longs as an instance is updated several times for every validator
+ * during epoch processing.
+ */
 public class AggregatedRewardAndPenalty implements RewardAndPenalty {
 
-  private UInt64 reward = UInt64.ZERO;
-  private UInt64 penalty = UInt64.ZERO;
+  private long reward = 0;
+  private long penalty = 0;
 
   @Override
   public void reward(final RewardComponent component, final UInt64 amount) {
-    // Ignoring reward component
-    reward(amount);
+    reward(component, amount.longValue());
   }
 
   @Override
   public void penalize(final RewardComponent component, final UInt64 amount) {
-    // Ignoring penalize component
-    penalize(amount);
+    penalize(component, amount.longValue());
   }
 
-  private void reward(final UInt64 amount) {
-    reward = reward.plus(amount);
+  @Override
+  public void reward(final RewardComponent component, final long amount) {
+    // Ignoring reward component
+    reward = UInt64.addExact(reward, amount);
   }
 
-  private void penalize(final UInt64 amount) {
-    penalty = penalty.plus(amount);
+  @Override
+  public void penalize(final RewardComponent component, final long amount) {
+    // Ignoring penalize component
+    penalty = UInt64.addExact(penalty, amount);
   }
 
   public void add(final AggregatedRewardAndPenalty other) {
-    reward(other.reward);
-    penalize(other.penalty);
+    reward = UInt64.addExact(reward, other.reward);
+    penalty = UInt64.addExact(penalty, other.penalty);
   }
 
   @Override
   public UInt64 getReward() {
-    return reward;
+    return UInt64.fromLongBits(reward);
   }
 
   @Override
   public UInt64 getPenalty() {
+    return UInt64.fromLongBits(penalty);
+  }
+
+  @Override
+  public long getRewardLongBits() {
+    return reward;
+  }
+
+  @Override
+  public long getPenaltyLongBits() {
     return penalty;
   }
 
@@ -66,7 +84,7 @@ public class AggregatedRewardAndPenalty implements RewardAndPenalty {
       return false;
     }
     final AggregatedRewardAndPenalty delta = (AggregatedRewardAndPenalty) o;
-    return Objects.equals(reward, delta.reward) && Objects.equals(penalty, delta.penalty);
+    return reward == delta.reward && penalty == delta.penalty;
   }
 
   @Override
@@ -77,8 +95,8 @@ public class AggregatedRewardAndPenalty implements RewardAndPenalty {
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
-        .add("reward", reward)
-        .add("penalty", penalty)
+        .add("reward", getReward())
+        .add("penalty", getPenalty())
         .toString();
   }
 }
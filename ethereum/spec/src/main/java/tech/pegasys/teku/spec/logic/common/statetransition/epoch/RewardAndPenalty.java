@@ -34,8 +34,28 @@ public interface RewardAndPenalty {
 
   UInt64 getPenalty();
 
+  /** Adds an unsigned reward amount, allowing callers to avoid creating a {@link UInt64}. */
+  default void reward(final RewardComponent component, final long amount) {
+    reward(component, UInt64.fromLongBits(amount));
+  }
+
+  /** Adds an unsigned penalty amount, allowing callers to avoid creating a {@link UInt64}. */
+  default void penalize(final RewardComponent component, final long amount) {
+    penalize(component, UInt64.fromLongBits(amount));
+  }
+
+  /** Returns the total reward as unsigned long bits. */
+  default long getRewardLongBits() {
+    return getReward().longValue();
+  }
+
+  /** Returns the total penalty as unsigned long bits. */
+  default long getPenaltyLongBits() {
+    return getPenalty().longValue();
+  }
+
   default boolean isZero() {
-    return getReward().isZero() && getPenalty().isZero();
+    return getRewardLongBits() == 0 && getPenaltyLongBits() == 0;
   }
 
   default Optional<DetailedRewardAndPenalty> asDetailed() {
@@ -19,6 +19,8 @@ import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUIn
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -27,6 +29,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.constants.ValidatorConstants;
 import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
@@ -75,17 +78,31 @@ public class ValidatorsUtil {
    */
   public Optional<CommitteeAssignment> getCommitteeAssignment(
       final BeaconState state, final UInt64 epoch, final int validatorIndex) {
-    return getCommitteeAssignment(
-        state, epoch, validatorIndex, beaconStateAccessors.getCommitteeCountPerSlot(state, epoch));
+    final UInt64 nextEpoch = beaconStateAccessors.getCurrentEpoch(state).plus(UInt64.ONE);
+    checkArgument(
+        epoch.compareTo(nextEpoch) <= 0, "get_committee_assignment: Epoch number too high");
+    return getEpochCommitteeAssignments(state, epoch).getCommitteeAssignment(validatorIndex);
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
+  /**
+   * Returns every committee of the ``epoch`` indexed by validator index. The index is built once
+   * per epoch and cached with the state, so callers looking up many validators only pay for it
+   * once.
+   */
+  public EpochCommitteeAssignments getEpochCommitteeAssignments(
       final BeaconState state, final UInt64 epoch) {
-    final Int2ObjectMap<CommitteeAssignment> assignmentMap = new Int2ObjectOpenHashMap<>();
+    return BeaconStateCache.getTransitionCaches(state)
+        .getEpochCommitteeAssignments()
+        .get(epoch, __ -> EpochCommitteeAssignments.create(getCommitteesAtEpoch(state, epoch)));
+  }
 
+  private List<CommitteeAssignment> getCommitteesAtEpoch(
+      final BeaconState state, final UInt64 epoch) {
     final int slotsPerEpoch = specConfig.getSlotsPerEpoch();
     final int committeeCountPerSlot =
         beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
+    final List<CommitteeAssignment> committees =
+        new ArrayList<>(slotsPerEpoch * committeeCountPerSlot);
     final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
     for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
       final UInt64 slot = startSlot.plus(slotOffset);
@@ -93,49 +110,10 @@ public class ValidatorsUtil {
         final UInt64 committeeIndex = UInt64.valueOf(i);
         final IntList committee =
             beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex);
-        committee.forEach(
-            j -> assignmentMap.put(j, new CommitteeAssignment(committee, committeeIndex, slot)));
+        committees.add(new CommitteeAssignment(committee, committeeIndex, slot));
       }
     }
-    return assignmentMap;
-  }
-
-  /**
-   * Return the committee assignment in the ``epoch`` for ``validator_index``. ``assignment``
-   * returned is a tuple of the following form: ``assignment[0]`` is the list of validators in the
-   * committee ``assignment[1]`` is the index to which the committee is assigned ``assignment[2]``
-   * is the slot at which the committee is assigned Return None if no assignment.
-   *
-   * @param state the BeaconState.
-   * @param epoch either on or between previous or current epoch.
-   * @param validatorIndex the validator that is calling this function.
-   * @param committeeCountPerSlot the number of committees for the target epoch
-   * @return Optional.of(CommitteeAssignment).
-   */
-  private Optional<CommitteeAssignment> getCommitteeAssignment(
-      final BeaconState state,
-      final UInt64 epoch,
-      final int validatorIndex,
-      final UInt64 committeeCountPerSlot) {
-    final UInt64 nextEpoch = beaconStateAccessors.getCurrentEpoch(state).plus(UInt64.ONE);
-    checkArgument(
-        epoch.compareTo(nextEpoch) <= 0, "get_committee_assignment: Epoch number too high");
-
-    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    final UInt64 endSlotExclusive = startSlot.plus(specConfig.getSlotsPerEpoch());
-
-    for (UInt64 slot = startSlot; slot.isLessThan(endSlotExclusive); slot = slot.plus(UInt64.ONE)) {
-
-      for (UInt64 index = UInt64.ZERO;
-          index.compareTo(committeeCountPerSlot) < 0;
-          index = index.plus(UInt64.ONE)) {
-        final IntList committee = beaconStateAccessors.getBeaconCommittee(state, slot, index);
-        if (committee.contains(validatorIndex)) {
-          return Optional.of(new CommitteeAssignment(committee, index, slot));
-        }
-      }
-    }
-    return Optional.empty();
+    return committees;
   }
 
   public Optional<UInt64> getPtcAssignment(
@@ -187,8 +187,12 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     }
     final MutableBeaconStateAltair state = MutableBeaconStateAltair.required(baseState);
     final SszMutableUInt64List inactivityScores = state.getInactivityScores();
+    final long[] inactivityScoreValues = inactivityScores.toLongArray();
     final List<ValidatorStatus> statuses = validatorStatuses.getStatuses();
     final boolean isInInactivityLeak = beaconStateAccessors.isInactivityLeak(state);
+    final long inactivityScoreBias = specConfigAltair.getInactivityScoreBias().longValue();
+    final long inactivityScoreRecoveryRate =
+        specConfigAltair.getInactivityScoreRecoveryRate().longValue();
     for (int i = 0; i < statuses.size(); i++) {
       final ValidatorStatus validatorStatus = statuses.get(i);
       if (!validatorStatus.isEligibleValidator()) {
@@ -196,19 +200,19 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
       }
 
       // Increase inactivity score of inactive validators
-      final UInt64 currentScore = inactivityScores.getElement(i);
-      UInt64 newScore;
+      final long currentScore = inactivityScoreValues[i];
+      long newScore;
       if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
-        newScore = currentScore.minusMinZero(1);
+        newScore = UInt64.subtractMinZero(currentScore, 1);
       } else {
-        newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
+        newScore = UInt64.addExact(currentScore, inactivityScoreBias);
       }
       // Decrease the score of all validators for forgiveness when not during a leak
       if (!isInInactivityLeak) {
-        newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
+        newScore = UInt64.subtractMinZero(newScore, inactivityScoreRecoveryRate);
       }
-      if (!currentScore.equals(newScore)) {
-        inactivityScores.setElement(i, newScore);
+      if (currentScore != newScore) {
+        inactivityScores.setElement(i, UInt64.fromLongBits(newScore));
       }
     }
   }
@@ -18,7 +18,6 @@ import static tech.pegasys.teku.spec.constants.ParticipationFlags.TIMELY_HEAD_FL
 import static tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair.PARTICIPATION_FLAG_WEIGHTS;
 
 import java.util.List;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigAltair;
 import tech.pegasys.teku.spec.constants.ParticipationFlags;
@@ -93,17 +92,24 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
     final TotalBalances totalBalances = validatorStatuses.getTotalBalances();
 
-    final UInt64 effectiveBalanceIncrement = specConfigAltair.getEffectiveBalanceIncrement();
-    final UInt64 unslashedParticipatingIncrements =
-        getPrevEpochTotalParticipatingBalance(flagIndex).dividedBy(effectiveBalanceIncrement);
-    final UInt64 weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex);
-    final UInt64 activeIncrements =
-        totalBalances.getCurrentEpochActiveValidators().dividedBy(effectiveBalanceIncrement);
+    // Calculated with unsigned longs as this runs for every validator, for each flag index
+    final long effectiveBalanceIncrement =
+        specConfigAltair.getEffectiveBalanceIncrement().longValue();
+    final long unslashedParticipatingIncrements =
+        Long.divideUnsigned(
+            getPrevEpochTotalParticipatingBalance(flagIndex).longValue(),
+            effectiveBalanceIncrement);
+    final long weight = PARTICIPATION_FLAG_WEIGHTS.get(flagIndex).longValue();
+    final long activeIncrements =
+        Long.divideUnsigned(
+            totalBalances.getCurrentEpochActiveValidators().longValue(),
+            effectiveBalanceIncrement);
+    final long weightDenominator = WEIGHT_DENOMINATOR.longValue();
 
     // Cache baseRewardPerIncrement - while it is also cached in transition caches,
     // looking it up from there for every single validator is quite expensive.
-    final UInt64 baseRewardPerIncrement =
-        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
+    final long baseRewardPerIncrement =
+        beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair).longValue();
     for (int i = 0; i < statusList.size(); i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
@@ -111,20 +117,22 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       }
       final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
 
-      final UInt64 baseReward =
+      final long baseReward =
           getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
       if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
         if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
+          final long rewardNumerator =
+              UInt64.multiplyExact(
+                  UInt64.multiplyExact(baseReward, weight), unslashedParticipatingIncrements);
           validatorDeltas.reward(
               getComponentForParticipationFlagIndex(flagIndex),
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
+              Long.divideUnsigned(
+                  rewardNumerator, UInt64.multiplyExact(activeIncrements, weightDenominator)));
         }
       } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
         validatorDeltas.penalize(
             getComponentForParticipationFlagIndex(flagIndex),
-            baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
+            Long.divideUnsigned(UInt64.multiplyExact(baseReward, weight), weightDenominator));
       }
     }
   }
@@ -146,14 +154,14 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    * baseRewardPerIncrement. This is significantly faster than having to go back to the state for
    * the data.
    */
-  private UInt64 getBaseReward(
-      final UInt64 effectiveBalanceIncrement,
-      final UInt64 baseRewardPerIncrement,
+  private long getBaseReward(
+      final long effectiveBalanceIncrement,
+      final long baseRewardPerIncrement,
       final ValidatorStatus validator) {
-    return validator
-        .getCurrentEpochEffectiveBalance()
-        .dividedBy(effectiveBalanceIncrement)
-        .times(baseRewardPerIncrement);
+    return UInt64.multiplyExact(
+        Long.divideUnsigned(
+            validator.getCurrentEpochEffectiveBalance().longValue(), effectiveBalanceIncrement),
+        baseRewardPerIncrement);
   }
 
   /**
@@ -166,9 +174,9 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
    */
   public void processInactivityPenaltyDeltas(final RewardAndPenaltyDeltas deltas) {
     final List<ValidatorStatus> statusList = validatorStatuses.getStatuses();
-    final SszUInt64List inactivityScores = stateAltair.getInactivityScores();
-    final UInt64 penaltyDenominator =
-        specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
+    final long[] inactivityScores = stateAltair.getInactivityScores().toLongArray();
+    final long penaltyDenominator =
+        specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient()).longValue();
     for (int i = 0; i < statusList.size(); i++) {
       final ValidatorStatus validator = statusList.get(i);
       if (!validator.isEligibleValidator()) {
@@ -178,10 +186,11 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
         continue;
       }
 
-      final UInt64 penaltyNumerator =
-          validator.getCurrentEpochEffectiveBalance().times(inactivityScores.get(i).get());
+      final long penaltyNumerator =
+          UInt64.multiplyExact(
+              validator.getCurrentEpochEffectiveBalance().longValue(), inactivityScores[i]);
 
-      final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
+      final long penalty = Long.divideUnsigned(penaltyNumerator, penaltyDenominator);
       deltas.getDelta(i).penalize(RewardComponent.INACTIVITY, penalty);
     }
   }
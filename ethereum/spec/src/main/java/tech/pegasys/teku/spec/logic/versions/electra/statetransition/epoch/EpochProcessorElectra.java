@@ -24,7 +24,6 @@ import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
 import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
-import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
@@ -150,27 +149,29 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
       final MutableBeaconState state, final List<ValidatorStatus> statuses) {
     // Update effective balances with hysteresis
     final SszMutableList<Validator> validators = state.getValidators();
-    final SszUInt64List balances = state.getBalances();
-    final UInt64 hysteresisUpwardMultiplier = specConfig.getHysteresisUpwardMultiplier();
-    final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
-    final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
+    final long[] balances = state.getBalances().toLongArray();
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
+    final long hysteresisIncrement =
+        effectiveBalanceIncrement.dividedBy(specConfig.getHysteresisQuotient()).longValue();
+    final long downwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisDownwardMultiplier().longValue());
+    final long upwardThreshold =
+        UInt64.multiplyExact(
+            hysteresisIncrement, specConfig.getHysteresisUpwardMultiplier().longValue());
     for (int index = 0; index < statuses.size(); index++) {
       final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
+      final long balanceValue = balances[index];
+      final long currentEffectiveBalance = status.getCurrentEpochEffectiveBalance().longValue();
       final Validator validator = validators.get(index);
       final UInt64 maxEffectiveBalance = getEffectiveBalanceLimitForValidator(validator);
-      if (shouldDecreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance, hysteresisDownwardMultiplier)
+      if (shouldDecreaseEffectiveBalance(balanceValue, downwardThreshold, currentEffectiveBalance)
           || shouldIncreaseEffectiveBalance(
-              balance,
-              hysteresisIncrement,
+              balanceValue,
+              upwardThreshold,
               currentEffectiveBalance,
-              hysteresisUpwardMultiplier,
-              maxEffectiveBalance)) {
+              maxEffectiveBalance.longValue())) {
+        final UInt64 balance = UInt64.fromLongBits(balanceValue);
         final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
         final UInt64 newEffectiveBalance =
             effectiveBalanceLimit.min(
@@ -15,13 +15,16 @@ package tech.pegasys.teku.spec.datastructures.blocks;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assumptions.assumeThat;
 import static tech.pegasys.teku.spec.SpecMilestone.BELLATRIX;
+import static tech.pegasys.teku.spec.SpecMilestone.DENEB;
 import static tech.pegasys.teku.spec.SpecMilestone.GLOAS;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecContext;
@@ -51,6 +54,34 @@ class SignedBeaconBlockTest {
     assertThat(result).isEqualTo(block);
   }
 
+  @TestTemplate
+  public void shouldReuseDeserializedSszWhenSerializing() {
+    final Bytes ssz = dataStructureUtil.randomSignedBeaconBlock(1).sszSerialize();
+    final SignedBeaconBlock result =
+        spec.getGenesisSchemaDefinitions().getSignedBeaconBlockSchema().sszDeserialize(ssz);
+
+    assertThat(result.sszSerialize()).isSameAs(ssz);
+    assertThat(result.getSchema().sszSerializeTree(result.getBackingNode())).isEqualTo(ssz);
+  }
+
+  @TestTemplate
+  public void shouldKeepSignedBlockSszWhenDeserializingBlockContents() {
+    final SpecMilestone milestone = spec.getGenesisSpec().getMilestone();
+    assumeThat(milestone.isGreaterThanOrEqualTo(DENEB) && milestone.isLessThan(GLOAS)).isTrue();
+    final SignedBlockContainer contents = dataStructureUtil.randomSignedBlockContents(UInt64.ONE);
+    final Bytes ssz = contents.sszSerialize();
+
+    final SignedBlockContainer result =
+        spec.getGenesisSchemaDefinitions().getSignedBlockContainerSchema().sszDeserialize(ssz);
+
+    assertThat(result).isEqualTo(contents);
+    final SignedBeaconBlock signedBlock = result.getSignedBlock();
+    assertThat(signedBlock.sszSerialize()).isEqualTo(contents.getSignedBlock().sszSerialize());
+    // Serializing the tree creates new bytes every time, so this shows the kept bytes are used
+    assertThat(signedBlock.sszSerialize()).isSameAs(signedBlock.sszSerialize());
+    assertThat(result.sszSerialize()).isEqualTo(ssz);
+  }
+
   @TestTemplate
   void shouldBlindAndUnblind() {
     final SignedBeaconBlock original = dataStructureUtil.randomSignedBeaconBlock(10);
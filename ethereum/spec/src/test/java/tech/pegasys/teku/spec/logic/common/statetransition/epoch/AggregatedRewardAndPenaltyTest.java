@@ -0,0 +1,72 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty.RewardComponent;
+
+class AggregatedRewardAndPenaltyTest {
+
+  @Test
+  public void shouldAccumulateUInt64AndLongAmounts() {
+    final AggregatedRewardAndPenalty rewardAndPenalty = new AggregatedRewardAndPenalty();
+
+    rewardAndPenalty.reward(RewardComponent.TARGET, UInt64.valueOf(2));
+    rewardAndPenalty.reward(RewardComponent.SOURCE, 3L);
+    rewardAndPenalty.penalize(RewardComponent.HEAD, UInt64.ONE);
+    rewardAndPenalty.penalize(RewardComponent.INACTIVITY, 4L);
+
+    assertThat(rewardAndPenalty.getReward()).isEqualTo(UInt64.valueOf(5));
+    assertThat(rewardAndPenalty.getRewardLongBits()).isEqualTo(5);
+    assertThat(rewardAndPenalty.getPenalty()).isEqualTo(UInt64.valueOf(5));
+    assertThat(rewardAndPenalty.getPenaltyLongBits()).isEqualTo(5);
+    assertThat(rewardAndPenalty.isZero()).isFalse();
+  }
+
+  @Test
+  public void shouldBeZeroInitially() {
+    final AggregatedRewardAndPenalty rewardAndPenalty = new AggregatedRewardAndPenalty();
+
+    assertThat(rewardAndPenalty.isZero()).isTrue();
+    assertThat(rewardAndPenalty.getReward()).isEqualTo(UInt64.ZERO);
+    assertThat(rewardAndPenalty.getPenalty()).isEqualTo(UInt64.ZERO);
+  }
+
+  @Test
+  public void shouldAddOtherTotals() {
+    final AggregatedRewardAndPenalty rp1 = new AggregatedRewardAndPenalty();
+    final AggregatedRewardAndPenalty rp2 = new AggregatedRewardAndPenalty();
+    rp1.reward(RewardComponent.HEAD, 1L);
+    rp2.reward(RewardComponent.HEAD, 2L);
+    rp2.penalize(RewardComponent.TARGET, 3L);
+
+    rp1.add(rp2);
+
+    assertThat(rp1.getReward()).isEqualTo(UInt64.valueOf(3));
+    assertThat(rp1.getPenalty()).isEqualTo(UInt64.valueOf(3));
+  }
+
+  @Test
+  public void shouldThrowWhenRewardOverflows() {
+    final AggregatedRewardAndPenalty rewardAndPenalty = new AggregatedRewardAndPenalty();
+    rewardAndPenalty.reward(RewardComponent.HEAD, UInt64.MAX_VALUE);
+
+    assertThatThrownBy(() -> rewardAndPenalty.reward(RewardComponent.HEAD, 1L))
+        .isInstanceOf(ArithmeticException.class);
+  }
+}
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.logic.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
@@ -26,6 +27,8 @@ import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.EpochCommitteeAssignments;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
@@ -95,6 +98,57 @@ class ValidatorsUtilTest {
         .contains(nextState.getValidators().size() - 1);
   }
 
+  @Test
+  void getEpochCommitteeAssignments_shouldIndexEveryCommitteeMember() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final EpochCommitteeAssignments assignments =
+        validatorsUtil.getEpochCommitteeAssignments(state, epoch);
+
+    assertThat(assignments.getCommittees())
+        .hasSize(
+            spec.slotsPerEpoch(epoch) * spec.getCommitteeCountPerSlot(state, epoch).intValue());
+    for (final CommitteeAssignment committeeAssignment : assignments.getCommittees()) {
+      final IntList committee = committeeAssignment.committee();
+      assertThat(committee)
+          .isEqualTo(
+              spec.getBeaconCommittee(
+                  state, committeeAssignment.slot(), committeeAssignment.committeeIndex()));
+      for (int position = 0; position < committee.size(); position++) {
+        final int validatorIndex = committee.getInt(position);
+        assertThat(assignments.getCommitteeAssignment(validatorIndex))
+            .contains(committeeAssignment);
+        assertThat(assignments.getPositionInCommittee(validatorIndex)).hasValue(position);
+        assertThat(validatorsUtil.getCommitteeAssignment(state, epoch, validatorIndex))
+            .contains(committeeAssignment);
+      }
+    }
+  }
+
+  @Test
+  void getEpochCommitteeAssignments_shouldReturnEmptyForUnassignedValidator() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final EpochCommitteeAssignments assignments =
+        validatorsUtil.getEpochCommitteeAssignments(state, epoch);
+
+    final int unknownValidatorIndex = state.getValidators().size();
+    assertThat(assignments.getCommitteeAssignment(unknownValidatorIndex)).isEmpty();
+    assertThat(assignments.getPositionInCommittee(unknownValidatorIndex)).isEmpty();
+    assertThat(assignments.getCommitteeAssignment(-1)).isEmpty();
+  }
+
+  @Test
+  void getEpochCommitteeAssignments_shouldReuseIndexForSameEpoch() {
+    final BeaconState state = dataStructureUtil.randomBeaconState();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    assertThat(validatorsUtil.getEpochCommitteeAssignments(state, epoch))
+        .isSameAs(validatorsUtil.getEpochCommitteeAssignments(state, epoch));
+  }
+
   @Test
   void testIsAggregatorReturnsFalseOnARealCase() {
     Bytes signingRoot =
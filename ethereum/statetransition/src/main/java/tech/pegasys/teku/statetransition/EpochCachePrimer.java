@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.Comparator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
@@ -20,6 +21,7 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.blocks.MinimalBeaconBlockSummary;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -28,6 +30,9 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 public class EpochCachePrimer {
   private static final Logger LOG = LogManager.getLogger();
 
+  // Limits the work done when there are many competing forks
+  static final int MAX_FORK_CHECKPOINT_STATES = 4;
+
   private final Spec spec;
   private final RecentChainData recentChainData;
   private final AsyncRunner asyncRunner;
@@ -46,13 +51,44 @@ public class EpochCachePrimer {
         // Don't preprocess epoch if we're more than an epoch behind as we likely need to sync
         .filter(
             headBlock ->
-                isWithinOneEpochOfHeadBlock(firstSlot, headBlock)
-                    && isAfterHeadBlockEpoch(epoch, headBlock))
+                isWithinOneEpochOfBlock(firstSlot, headBlock.getSlot())
+                    && isAfterBlockEpoch(epoch, headBlock.getSlot()))
         .ifPresent(
-            headBlock ->
-                asyncRunner
-                    .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
-                    .finishStackTrace());
+            headBlock -> {
+              asyncRunner
+                  .runAsync(() -> primeCacheForBlockAtSlot(headBlock, firstSlot))
+                  .finishStackTrace();
+              asyncRunner
+                  .runAsync(() -> primeForkCheckpointStates(headBlock, epoch, firstSlot))
+                  .finishStackTrace();
+            });
+  }
+
+  /**
+   * Attestations for the new epoch target the epoch boundary of whichever chain they vote for, so
+   * precompute the checkpoint states for the heaviest recent fork heads as well as the canonical
+   * head. Concurrent requests for the same checkpoint share the in-flight computation.
+   */
+  private void primeForkCheckpointStates(
+      final MinimalBeaconBlockSummary headBlock, final UInt64 epoch, final UInt64 firstSlot) {
+    recentChainData.getChainHeads().stream()
+        .filter(
+            chainHead ->
+                !chainHead.getRoot().equals(headBlock.getRoot())
+                    && isWithinOneEpochOfBlock(firstSlot, chainHead.getSlot())
+                    && isAfterBlockEpoch(epoch, chainHead.getSlot()))
+        .sorted(Comparator.comparing(ProtoNodeData::getWeight).reversed())
+        .limit(MAX_FORK_CHECKPOINT_STATES)
+        .forEach(
+            chainHead ->
+                recentChainData
+                    .retrieveCheckpointState(new Checkpoint(epoch, chainHead.getRoot()))
+                    .finish(
+                        error ->
+                            LOG.debug(
+                                "Failed to precompute checkpoint state for fork head {}",
+                                chainHead.getRoot(),
+                                error)));
   }
 
   private void primeCacheForBlockAtSlot(
@@ -64,14 +100,12 @@ public class EpochCachePrimer {
             error -> LOG.warn("Failed to precompute epoch transition", error));
   }
 
-  private boolean isWithinOneEpochOfHeadBlock(
-      final UInt64 firstSlot, final MinimalBeaconBlockSummary block) {
-    return block.getSlot().plus(spec.getSlotsPerEpoch(firstSlot)).isGreaterThanOrEqualTo(firstSlot);
+  private boolean isWithinOneEpochOfBlock(final UInt64 firstSlot, final UInt64 blockSlot) {
+    return blockSlot.plus(spec.getSlotsPerEpoch(firstSlot)).isGreaterThanOrEqualTo(firstSlot);
   }
 
-  private boolean isAfterHeadBlockEpoch(
-      final UInt64 epoch, final MinimalBeaconBlockSummary headBlock) {
-    return spec.computeEpochAtSlot(headBlock.getSlot()).isLessThan(epoch);
+  private boolean isAfterBlockEpoch(final UInt64 epoch, final UInt64 blockSlot) {
+    return spec.computeEpochAtSlot(blockSlot).isLessThan(epoch);
   }
 
   private void primeEpochStateCaches(final BeaconState state) {
@@ -17,7 +17,6 @@ import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +27,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
@@ -183,26 +183,59 @@ public class MappedOperationPool<T extends MessageWithValidatorId> implements Op
 
     // Note that iterating through all items does not affect their access time so we are effectively
     // evicting the oldest entries when the size is exceeded as we only ever access via iteration.
-    final Collection<T> sortedViableOperations =
-        operations.values().stream().sorted().map(OperationPoolEntry::getMessage).toList();
+    final List<OperationPoolEntry<T>> entries = new ArrayList<>(operations.values());
     final List<T> selected = new ArrayList<>();
-    for (final T item : sortedViableOperations) {
+    // Locally submitted operations take priority over those received from the network
+    selectForBlock(
+        stateAtBlockSlot, entries, true, maxItemsToSelect, filter, includedItemConsumer, selected);
+    selectForBlock(
+        stateAtBlockSlot, entries, false, maxItemsToSelect, filter, includedItemConsumer, selected);
+    return schema.createFromElements(selected);
+  }
+
+  private void selectForBlock(
+      final BeaconState stateAtBlockSlot,
+      final List<OperationPoolEntry<T>> entries,
+      final boolean local,
+      final long maxItemsToSelect,
+      final Predicate<T> filter,
+      final Consumer<T> includedItemConsumer,
+      final List<T> selected) {
+    for (final OperationPoolEntry<T> entry : entries) {
       if (selected.size() >= maxItemsToSelect) {
-        break;
+        return;
       }
-      if (!filter.test(item)) {
+      final T item = entry.getMessage();
+      if (entry.isLocal() != local || !filter.test(item)) {
         continue;
       }
-      final UInt64 validatorIndex = item.getValidatorId();
-      if (operationValidator.validateForBlockInclusion(stateAtBlockSlot, item).isEmpty()) {
+      if (isValidForBlockInclusion(stateAtBlockSlot, entry)) {
         selected.add(item);
         includedItemConsumer.accept(item);
       } else {
         // The item is no longer valid to be included in a block so remove it from the pool.
-        operations.remove(validatorIndex);
+        operations.remove(item.getValidatorId());
       }
     }
-    return schema.createFromElements(selected);
+  }
+
+  private boolean isValidForBlockInclusion(
+      final BeaconState stateAtBlockSlot, final OperationPoolEntry<T> entry) {
+    final T item = entry.getMessage();
+    // Signature checks dominate the cost of selection, so skip them for entries already verified
+    // against the same signing context and only re-check the state dependent conditions.
+    final Optional<Bytes> signatureKey =
+        operationValidator.getSignatureCacheKey(stateAtBlockSlot, item);
+    if (signatureKey.isPresent() && entry.isSignatureVerified(signatureKey.get())) {
+      return operationValidator
+          .validateForBlockInclusionWithoutSignature(stateAtBlockSlot, item)
+          .isEmpty();
+    }
+    if (operationValidator.validateForBlockInclusion(stateAtBlockSlot, item).isPresent()) {
+      return false;
+    }
+    signatureKey.ifPresent(entry::setSignatureVerified);
+    return true;
   }
 
   @Override
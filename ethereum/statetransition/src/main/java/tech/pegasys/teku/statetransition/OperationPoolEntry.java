@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.statetransition;
 
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.jetbrains.annotations.NotNull;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.operations.MessageWithValidatorId;
@@ -24,6 +26,7 @@ public class OperationPoolEntry<T extends MessageWithValidatorId>
   private final boolean isLocal;
 
   private UInt64 timeSubmitted;
+  private volatile Optional<Bytes> verifiedSignatureKey = Optional.empty();
 
   public OperationPoolEntry(final T message, final boolean isLocal, final UInt64 timeSubmitted) {
     this.message = message;
@@ -47,6 +50,14 @@ public class OperationPoolEntry<T extends MessageWithValidatorId>
     this.timeSubmitted = timeSubmitted;
   }
 
+  public boolean isSignatureVerified(final Bytes signatureKey) {
+    return verifiedSignatureKey.map(signatureKey::equals).orElse(false);
+  }
+
+  public void setSignatureVerified(final Bytes signatureKey) {
+    this.verifiedSignatureKey = Optional.of(signatureKey);
+  }
+
   @Override
   public int compareTo(final @NotNull OperationPoolEntry<T> o) {
     if (isLocal && !o.isLocal) {
@@ -43,8 +43,8 @@ class ColumnIdCachingDasDb implements DataColumnSidecarDB {
       final int sidecarsWriteCacheSize) {
     this.delegateDb = delegateDb;
     this.slotToNumberOfColumns = slotToNumberOfColumns;
-    this.readSlotCaches = LimitedMap.createSynchronizedLRU(slotReadCacheSize);
-    this.latestAdded = LimitedSet.createSynchronizedLRU(sidecarsWriteCacheSize);
+    this.readSlotCaches = LimitedMap.createConcurrentLRU(slotReadCacheSize);
+    this.latestAdded = LimitedSet.createConcurrentLRU(sidecarsWriteCacheSize);
   }
 
   private SlotCache getOrCreateSlotCache(final UInt64 slot) {
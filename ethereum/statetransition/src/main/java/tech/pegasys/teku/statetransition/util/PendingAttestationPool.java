@@ -21,6 +21,7 @@ import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
 
@@ -34,7 +35,8 @@ public class PendingAttestationPool implements SlotEventsChannel, FinalizedCheck
       final UInt64 historicalSlotTolerance,
       final UInt64 futureSlotTolerance,
       final int maxAttestationsWaitingForBlock,
-      final int maxAttestationsWaitingForFullPayload) {
+      final int maxAttestationsWaitingForFullPayload,
+      final long maxPendingAttestationBytes) {
     attestationsWaitingForBlock =
         new PendingPool<>(
             pendingPoolsSizeGauge,
@@ -43,6 +45,8 @@ public class PendingAttestationPool implements SlotEventsChannel, FinalizedCheck
             historicalSlotTolerance,
             futureSlotTolerance,
             maxAttestationsWaitingForBlock,
+            maxPendingAttestationBytes,
+            PendingAttestationPool::getSszSize,
             ValidatableAttestation::hashTreeRoot,
             ValidatableAttestation::getDependentBlockRoots,
             ValidatableAttestation::getEarliestSlotForForkChoiceProcessing);
@@ -54,6 +58,8 @@ public class PendingAttestationPool implements SlotEventsChannel, FinalizedCheck
             historicalSlotTolerance,
             futureSlotTolerance,
             maxAttestationsWaitingForFullPayload,
+            maxPendingAttestationBytes,
+            PendingAttestationPool::getSszSize,
             ValidatableAttestation::hashTreeRoot,
             attestation -> Set.of(attestation.getData().getBeaconBlockRoot()),
             ValidatableAttestation::getEarliestSlotForForkChoiceProcessing);
@@ -90,6 +96,11 @@ public class PendingAttestationPool implements SlotEventsChannel, FinalizedCheck
     attestationsWaitingForFullPayload.subscribeRequiredBlockRoot(subscriber::onRequiredFullPayload);
   }
 
+  static long getSszSize(final ValidatableAttestation attestation) {
+    final Attestation message = attestation.getAttestation();
+    return message.getSchema().getSszSize(message.getBackingNode());
+  }
+
   private static List<ValidatableAttestation> removeDependents(
       final PendingPool<ValidatableAttestation> pool, final Bytes32 beaconBlockRoot) {
     final List<ValidatableAttestation> attestations =
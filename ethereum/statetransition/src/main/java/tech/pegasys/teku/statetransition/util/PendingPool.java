@@ -17,16 +17,16 @@ import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableSet;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToLongFunction;
@@ -42,20 +42,17 @@ import tech.pegasys.teku.spec.Spec;
 public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   private static final Logger LOG = LogManager.getLogger();
 
-  private static final Comparator<SlotAndRoot> SLOT_AND_ROOT_COMPARATOR =
-      Comparator.comparing(SlotAndRoot::getSlot).thenComparing(SlotAndRoot::getRoot);
-
   private final String itemType;
   private final Subscribers<RequiredBlockRootSubscriber> requiredBlockRootSubscribers =
       Subscribers.create(true);
   private final Subscribers<RequiredBlockRootDroppedSubscriber>
       requiredBlockRootDroppedSubscribers = Subscribers.create(true);
 
-  private final Map<Bytes32, T> pendingItems = new HashMap<>();
-  private final NavigableSet<SlotAndRoot> orderedPendingItems =
-      new TreeSet<>(SLOT_AND_ROOT_COMPARATOR);
+  private final Map<Bytes32, PendingItem<T>> pendingItems = new HashMap<>();
+  // Item roots bucketed by target slot, in insertion order within each slot, so pruning and
+  // eviction drop whole slots from the front without searching or re-hashing items
+  private final NavigableMap<UInt64, Set<Bytes32>> pendingItemsBySlot = new TreeMap<>();
   private final Map<Bytes32, Set<Bytes32>> pendingItemsByRequiredBlockRoot = new HashMap<>();
-  private final Map<Bytes32, Long> pendingItemWeights = new HashMap<>();
   private final int maxItems;
   private final long maxTotalWeight;
   private long totalWeight = 0;
@@ -176,10 +173,9 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
                     })
                 .add(itemRoot));
 
-    pendingItems.put(itemRoot, item);
-    pendingItemWeights.put(itemRoot, itemWeight);
+    pendingItems.put(itemRoot, new PendingItem<>(item, slot, itemWeight, requiredRoots));
+    pendingItemsBySlot.computeIfAbsent(slot, __ -> new LinkedHashSet<>()).add(itemRoot);
     totalWeight += itemWeight;
-    orderedPendingItems.add(toSlotAndRoot(item));
     LOG.trace("Save unattached item at slot {} for future import: {}", slot, item);
     sizeGauge.set(pendingItems.size(), itemType);
 
@@ -193,37 +189,12 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       return;
     }
 
-    final Bytes32 itemRoot = hashTreeRootFunction.apply(item);
-    final T removedItem = pendingItems.remove(itemRoot);
-    if (removedItem == null) {
-      return;
-    }
-
-    final SlotAndRoot itemSlotAndRoot = toSlotAndRoot(removedItem);
-    orderedPendingItems.remove(itemSlotAndRoot);
-    final Long removedWeight = pendingItemWeights.remove(itemRoot);
-    if (removedWeight != null) {
-      totalWeight -= removedWeight;
-    }
-
-    final Collection<Bytes32> requiredRoots = requiredBlockRootsFunction.apply(removedItem);
-    requiredRoots.forEach(
-        requiredRoot -> {
-          Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
-          if (childSet == null) {
-            return;
-          }
-          childSet.remove(itemSlotAndRoot.getRoot());
-          if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
-            requiredBlockRootDroppedSubscribers.forEach(
-                s -> s.onRequiredBlockRootDropped(requiredRoot));
-          }
-        });
-    sizeGauge.set(pendingItems.size(), itemType);
+    removePendingItem(hashTreeRootFunction.apply(item));
   }
 
   public synchronized List<T> removeItemsMatching(final Predicate<T> predicate) {
-    final List<T> itemsToRemove = pendingItems.values().stream().filter(predicate).toList();
+    final List<T> itemsToRemove =
+        pendingItems.values().stream().map(PendingItem::item).filter(predicate).toList();
     itemsToRemove.forEach(this::remove);
     return itemsToRemove;
   }
@@ -260,7 +231,7 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   }
 
   public synchronized Optional<T> get(final Bytes32 itemRoot) {
-    return Optional.ofNullable(pendingItems.get(itemRoot));
+    return Optional.ofNullable(pendingItems.get(itemRoot)).map(PendingItem::item);
   }
 
   public synchronized Set<Bytes32> getAllRequiredBlockRoots() {
@@ -301,7 +272,11 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       return Collections.emptyList();
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    return dependentRoots.stream()
+        .map(pendingItems::get)
+        .filter(Objects::nonNull)
+        .map(PendingItem::item)
+        .toList();
   }
 
   /**
@@ -328,7 +303,11 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
       requiredRoots = roots;
     }
 
-    return dependentRoots.stream().map(pendingItems::get).filter(Objects::nonNull).toList();
+    return dependentRoots.stream()
+        .map(pendingItems::get)
+        .filter(Objects::nonNull)
+        .map(PendingItem::item)
+        .toList();
   }
 
   public void subscribeRequiredBlockRoot(final RequiredBlockRootSubscriber subscriber) {
@@ -343,21 +322,43 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   @VisibleForTesting
   @Override
   protected synchronized void prune(final UInt64 slotLimit) {
-    final List<T> toRemove = new ArrayList<>();
-    for (SlotAndRoot slotAndRoot : orderedPendingItems) {
-      if (slotAndRoot.getSlot().isGreaterThan(slotLimit)) {
-        break;
-      }
-      toRemove.add(pendingItems.get(slotAndRoot.getRoot()));
+    final NavigableMap<UInt64, Set<Bytes32>> expiredSlots =
+        pendingItemsBySlot.headMap(slotLimit, true);
+    while (!expiredSlots.isEmpty()) {
+      expiredSlots.pollFirstEntry().getValue().forEach(this::removePendingItem);
     }
-
-    toRemove.forEach(this::remove);
   }
 
-  private SlotAndRoot toSlotAndRoot(final T item) {
-    final UInt64 slot = targetSlotFunction.apply(item);
-    final Bytes32 root = hashTreeRootFunction.apply(item);
-    return new SlotAndRoot(slot, root);
+  private void removePendingItem(final Bytes32 itemRoot) {
+    final PendingItem<T> removedItem = pendingItems.remove(itemRoot);
+    if (removedItem == null) {
+      return;
+    }
+
+    final Set<Bytes32> slotItemRoots = pendingItemsBySlot.get(removedItem.slot());
+    if (slotItemRoots != null) {
+      slotItemRoots.remove(itemRoot);
+      if (slotItemRoots.isEmpty()) {
+        pendingItemsBySlot.remove(removedItem.slot());
+      }
+    }
+    totalWeight -= removedItem.weight();
+
+    removedItem
+        .requiredRoots()
+        .forEach(
+            requiredRoot -> {
+              Set<Bytes32> childSet = pendingItemsByRequiredBlockRoot.get(requiredRoot);
+              if (childSet == null) {
+                return;
+              }
+              childSet.remove(itemRoot);
+              if (pendingItemsByRequiredBlockRoot.remove(requiredRoot, Collections.emptySet())) {
+                requiredBlockRootDroppedSubscribers.forEach(
+                    s -> s.onRequiredBlockRootDropped(requiredRoot));
+              }
+            });
+    sizeGauge.set(pendingItems.size(), itemType);
   }
 
   private long getItemWeight(final T item) {
@@ -373,11 +374,11 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
   }
 
   private boolean removeOldestItem() {
-    final SlotAndRoot toRemove = orderedPendingItems.pollFirst();
-    if (toRemove == null) {
+    final Map.Entry<UInt64, Set<Bytes32>> oldestSlot = pendingItemsBySlot.firstEntry();
+    if (oldestSlot == null) {
       return false;
     }
-    remove(pendingItems.get(toRemove.getRoot()));
+    removePendingItem(oldestSlot.getValue().iterator().next());
     return true;
   }
 
@@ -389,21 +390,6 @@ public class PendingPool<T> extends AbstractIgnoringFutureHistoricalSlot {
     void onRequiredBlockRootDropped(Bytes32 blockRoot);
   }
 
-  private static class SlotAndRoot {
-    private final UInt64 slot;
-    private final Bytes32 root;
-
-    private SlotAndRoot(final UInt64 slot, final Bytes32 root) {
-      this.slot = slot;
-      this.root = root;
-    }
-
-    public UInt64 getSlot() {
-      return slot;
-    }
-
-    public Bytes32 getRoot() {
-      return root;
-    }
-  }
+  private record PendingItem<T>(
+      T item, UInt64 slot, long weight, Collection<Bytes32> requiredRoots) {}
 }
@@ -65,6 +65,9 @@ public class PoolFactory {
   private static final int DEFAULT_MAX_PENDING_PROPOSER_PREFERENCES = 256;
   private static final int DEFAULT_MAX_PENDING_EXECUTION_PAYLOAD_BIDS = 1000;
   private static final int DEFAULT_PENDING_BLOCK_BYTES_MULTIPLIER = 10;
+  // Bounds memory when large aggregates pile up, well above the size of a full queue of
+  // single attestations
+  private static final long DEFAULT_MAX_PENDING_ATTESTATION_BYTES = 64L * 1024 * 1024;
   private static final int EL_RECOVERY_TASKS_LIMIT = 10;
   private static final Duration EL_BLOBS_FETCHING_DELAY = Duration.ofMillis(500);
   private static final int EL_BLOBS_FETCHING_MAX_RETRIES = 3;
@@ -180,7 +183,8 @@ public class PoolFactory {
         DEFAULT_HISTORICAL_SLOT_TOLERANCE,
         FutureItems.DEFAULT_FUTURE_SLOT_TOLERANCE,
         maxAttestationsWaitingForBlock,
-        maxAttestationsWaitingForFullPayload);
+        maxAttestationsWaitingForFullPayload,
+        DEFAULT_MAX_PENDING_ATTESTATION_BYTES);
   }
 
   public PendingPool<ValidatableAttestation> createPendingPoolForAttestations(
@@ -193,6 +197,8 @@ public class PoolFactory {
         DEFAULT_HISTORICAL_SLOT_TOLERANCE,
         FutureItems.DEFAULT_FUTURE_SLOT_TOLERANCE,
         maxQueueSize,
+        DEFAULT_MAX_PENDING_ATTESTATION_BYTES,
+        PendingAttestationPool::getSszSize,
         ValidatableAttestation::hashTreeRoot,
         ValidatableAttestation::getDependentBlockRoots,
         ValidatableAttestation::getEarliestSlotForForkChoiceProcessing);
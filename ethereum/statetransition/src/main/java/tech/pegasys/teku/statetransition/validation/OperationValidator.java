@@ -14,6 +14,7 @@
 package tech.pegasys.teku.statetransition.validation;
 
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationInvalidReason;
@@ -33,4 +34,25 @@ public interface OperationValidator<T> {
    */
   Optional<OperationInvalidReason> validateForBlockInclusion(
       BeaconState stateAtBlockSlot, T operation);
+
+  /**
+   * Returns a key identifying everything other than the operation itself that its signature is
+   * verified against in the given state, such as the signing domain and public key. Once an
+   * operation has passed {@link #validateForBlockInclusion(BeaconState, Object)}, later checks
+   * with an equal key may use {@link #validateForBlockInclusionWithoutSignature(BeaconState,
+   * Object)} instead. Empty if the signature must be verified every time.
+   */
+  default Optional<Bytes> getSignatureCacheKey(
+      final BeaconState stateAtBlockSlot, final T operation) {
+    return Optional.empty();
+  }
+
+  /**
+   * Validates an operation when selecting it from an {@link OperationPool}, assuming its signature
+   * has already been verified against the same {@link #getSignatureCacheKey(BeaconState, Object)}.
+   */
+  default Optional<OperationInvalidReason> validateForBlockInclusionWithoutSignature(
+      final BeaconState stateAtBlockSlot, final T operation) {
+    return validateForBlockInclusion(stateAtBlockSlot, operation);
+  }
 }
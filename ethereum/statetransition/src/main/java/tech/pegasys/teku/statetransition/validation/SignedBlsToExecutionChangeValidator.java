@@ -20,6 +20,7 @@ import static tech.pegasys.teku.statetransition.validation.ValidationResultCode.
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
@@ -145,8 +146,7 @@ public class SignedBlsToExecutionChangeValidator
       final BeaconState state, final SignedBlsToExecutionChange operation) {
 
     final Optional<OperationInvalidReason> invalidReason =
-        spec.validateBlsToExecutionChange(
-            state, timeProvider.getTimeInSeconds(), operation.getMessage());
+        validateForBlockInclusionWithoutSignature(state, operation);
     if (invalidReason.isPresent()) {
       return invalidReason;
     }
@@ -157,6 +157,20 @@ public class SignedBlsToExecutionChangeValidator
     return Optional.empty();
   }
 
+  @Override
+  public Optional<Bytes> getSignatureCacheKey(
+      final BeaconState state, final SignedBlsToExecutionChange operation) {
+    // Signed with the genesis fork domain and the public key carried in the message itself
+    return Optional.of(state.getGenesisValidatorsRoot());
+  }
+
+  @Override
+  public Optional<OperationInvalidReason> validateForBlockInclusionWithoutSignature(
+      final BeaconState state, final SignedBlsToExecutionChange operation) {
+    return spec.validateBlsToExecutionChange(
+        state, timeProvider.getTimeInSeconds(), operation.getMessage());
+  }
+
   private SafeFuture<BeaconState> getState() {
     return recentChainData
         .getBestState()
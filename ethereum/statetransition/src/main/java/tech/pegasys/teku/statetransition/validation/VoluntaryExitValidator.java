@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSSignatureVerifier;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.collections.LimitedMap;
@@ -108,6 +109,24 @@ public class VoluntaryExitValidator implements OperationValidator<SignedVoluntar
     return getFailureReason(stateAtBlockSlot, exit);
   }
 
+  @Override
+  public Optional<Bytes> getSignatureCacheKey(
+      final BeaconState stateAtBlockSlot, final SignedVoluntaryExit exit) {
+    // The signing domain depends on the fork and the key on the validator at the exiting index.
+    // Indices without a validator (such as builders) are always verified.
+    return spec.getValidatorPubKey(stateAtBlockSlot, exit.getMessage().getValidatorIndex())
+        .map(
+            publicKey ->
+                Bytes.concatenate(
+                    stateAtBlockSlot.getFork().hashTreeRoot(), publicKey.toBytesCompressed()));
+  }
+
+  @Override
+  public Optional<OperationInvalidReason> validateForBlockInclusionWithoutSignature(
+      final BeaconState stateAtBlockSlot, final SignedVoluntaryExit exit) {
+    return spec.validateVoluntaryExit(stateAtBlockSlot, exit);
+  }
+
   private SafeFuture<Optional<OperationInvalidReason>> getFailureReason(
       final SignedVoluntaryExit exit) {
     return getState().thenApply(state -> getFailureReason(state, exit));
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -34,7 +35,9 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
@@ -169,6 +172,41 @@ class EpochCachePrimerTest {
     verify(beaconStateUtil).getEffectiveActiveUnslashedBalances(justifiedState);
   }
 
+  @Test
+  void shouldPrecomputeCheckpointStatesForForkHeads() {
+    final ChainBuilder forkBuilder = storageSystem.chainBuilder().fork();
+    final SignedBlockAndState forkHead = forkBuilder.generateBlockAtSlot(6);
+    storageSystem.chainUpdater().saveBlock(forkHead);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(7));
+    final Checkpoint forkCheckpoint = new Checkpoint(UInt64.ONE, forkHead.getRoot());
+    assertThat(recentChainData.getStore().getCheckpointStateIfAvailable(forkCheckpoint)).isEmpty();
+
+    primer.primeCacheForEpoch(UInt64.ONE);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(recentChainData.getStore().getCheckpointStateIfAvailable(forkCheckpoint))
+        .isPresent();
+  }
+
+  @Test
+  void shouldNotPrecomputeCheckpointStatesForOldForkHeads() {
+    final ChainBuilder forkBuilder = storageSystem.chainBuilder().fork();
+    final SignedBlockAndState forkHead = forkBuilder.generateBlockAtSlot(6);
+    storageSystem.chainUpdater().saveBlock(forkHead);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(7));
+    final UInt64 epoch = UInt64.valueOf(2);
+    storageSystem.chainUpdater().updateBestBlock(storageSystem.chainUpdater().advanceChain(15));
+
+    primer.primeCacheForEpoch(epoch);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(
+            recentChainData
+                .getStore()
+                .getCheckpointStateIfAvailable(new Checkpoint(epoch, forkHead.getRoot())))
+        .isEmpty();
+  }
+
   private void forEachSlotInEpoch(final UInt64 epoch, final Consumer<UInt64> action) {
     UInt64.range(
             realSpec.computeStartSlotAtEpoch(epoch),
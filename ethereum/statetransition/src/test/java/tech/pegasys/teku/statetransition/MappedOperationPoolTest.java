@@ -16,6 +16,7 @@ package tech.pegasys.teku.statetransition;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -236,6 +238,46 @@ public class MappedOperationPoolTest {
     assertThat(pool.size()).isEqualTo(0);
   }
 
+  @Test
+  void shouldSkipSignatureCheckForEntriesAlreadyVerifiedWithSameKey() {
+    final Bytes signatureKey = Bytes.of(1);
+    when(validator.getSignatureCacheKey(any(), any())).thenReturn(Optional.of(signatureKey));
+    final SignedBlsToExecutionChange item = initPoolWithSingleItem();
+
+    assertThat(pool.getItemsForBlock(state, maxBlsToExecutionChanges)).containsExactly(item);
+    assertThat(pool.getItemsForBlock(state, maxBlsToExecutionChanges)).containsExactly(item);
+
+    verify(validator).validateForBlockInclusion(state, item);
+    verify(validator).validateForBlockInclusionWithoutSignature(state, item);
+  }
+
+  @Test
+  void shouldVerifySignatureAgainWhenKeyChanges() {
+    when(validator.getSignatureCacheKey(any(), any()))
+        .thenReturn(Optional.of(Bytes.of(1)))
+        .thenReturn(Optional.of(Bytes.of(2)));
+    final SignedBlsToExecutionChange item = initPoolWithSingleItem();
+
+    pool.getItemsForBlock(state, maxBlsToExecutionChanges);
+    pool.getItemsForBlock(state, maxBlsToExecutionChanges);
+
+    verify(validator, times(2)).validateForBlockInclusion(state, item);
+    verify(validator, never()).validateForBlockInclusionWithoutSignature(any(), any());
+  }
+
+  @Test
+  void shouldPruneVerifiedEntryIfNoLongerValid() {
+    when(validator.getSignatureCacheKey(any(), any())).thenReturn(Optional.of(Bytes.of(1)));
+    initPoolWithSingleItem();
+    pool.getItemsForBlock(state, maxBlsToExecutionChanges);
+
+    when(validator.validateForBlockInclusionWithoutSignature(any(), any()))
+        .thenReturn(Optional.of(mock(OperationInvalidReason.class)));
+
+    assertThat(pool.getItemsForBlock(state, maxBlsToExecutionChanges)).isEmpty();
+    assertThat(pool.size()).isZero();
+  }
+
   @Test
   void shouldNotUpdateLocalOperationsIfLessThanMinimumTime() {
     when(validator.validateForGossip(any())).thenReturn(completedFuture(ACCEPT));
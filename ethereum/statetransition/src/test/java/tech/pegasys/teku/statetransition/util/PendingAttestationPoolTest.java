@@ -83,6 +83,23 @@ public class PendingAttestationPoolTest {
     assertThat(required).containsExactly(attestation.getData().getBeaconBlockRoot());
   }
 
+  @Test
+  public void tracksSszSizeOfPendingAttestations() {
+    final ValidatableAttestation attestation = validatableAttestation(currentSlot);
+    final PendingPool<ValidatableAttestation> pool =
+        pendingAttestationPool.getAttestationsWaitingForBlock();
+
+    pendingAttestationPool.addForMissingBlock(attestation);
+    assertThat(pool.getTotalWeight())
+        .isPositive()
+        .isEqualTo(PendingAttestationPool.getSszSize(attestation));
+    assertThat(pool.getMaxTotalWeight()).isLessThan(Long.MAX_VALUE);
+
+    pendingAttestationPool.removeAttestationsWaitingForBlock(
+        attestation.getData().getBeaconBlockRoot());
+    assertThat(pool.getTotalWeight()).isZero();
+  }
+
   private ValidatableAttestation validatableAttestation(final UInt64 slot) {
     final AttestationData data =
         new AttestationData(
@@ -287,6 +287,28 @@ public class PendingPoolTest {
     assertThat(weightedPendingPool.getTotalWeight()).isEqualTo(9);
   }
 
+  @Test
+  public void add_shouldDropEarliestAddedItemWithinOldestSlot() {
+    final PendingPool<PendingTestItem> weightedPendingPool = createWeightedPendingPool(10);
+
+    final PendingTestItem firstItem = createPendingTestItem(3, currentSlot);
+    final PendingTestItem secondItem = createPendingTestItem(3, currentSlot);
+    final PendingTestItem thirdItem = createPendingTestItem(3, currentSlot);
+    final PendingTestItem newerItem = createPendingTestItem(3, currentSlot.plus(UInt64.ONE));
+
+    weightedPendingPool.add(firstItem);
+    weightedPendingPool.add(secondItem);
+    weightedPendingPool.add(thirdItem);
+    weightedPendingPool.remove(secondItem);
+    weightedPendingPool.add(createPendingTestItem(3, currentSlot.plus(UInt64.ONE)));
+    weightedPendingPool.add(newerItem);
+
+    assertThat(weightedPendingPool.contains(firstItem)).isFalse();
+    assertThat(weightedPendingPool.contains(thirdItem)).isTrue();
+    assertThat(weightedPendingPool.contains(newerItem)).isTrue();
+    assertThat(weightedPendingPool.getTotalWeight()).isEqualTo(9);
+  }
+
   @Test
   public void add_shouldIgnoreItemsThatExceedTotalWeightLimit() {
     final PendingPool<PendingTestItem> weightedPendingPool = createWeightedPendingPool(10);
@@ -15,6 +15,7 @@ package tech.pegasys.teku.bls.keystore.model;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.MoreObjects;
 import org.apache.tuweni.bytes.Bytes;
@@ -43,6 +44,14 @@ public abstract class KdfParam {
 
   protected abstract Bytes generateDecryptionKey(final Bytes password);
 
+  /**
+   * @return the approximate number of bytes of memory used while generating the decryption key
+   */
+  @JsonIgnore
+  public long getMemoryRequirement() {
+    return 0;
+  }
+
   public void validate() {
     checkNotNull(getSalt(), "salt cannot be null");
     // because the EIP-2335 spec requires dklen >= 32
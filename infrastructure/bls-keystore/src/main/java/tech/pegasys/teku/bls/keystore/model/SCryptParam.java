@@ -105,6 +105,13 @@ public class SCryptParam extends KdfParam {
     return KdfFunction.SCRYPT;
   }
 
+  /** SCrypt holds a working array of 128 * r * n bytes plus 128 * r * p bytes of block data. */
+  @Override
+  @JsonIgnore
+  public long getMemoryRequirement() {
+    return 128L * r * ((long) n + p);
+  }
+
   @Override
   protected Bytes generateDecryptionKey(final Bytes password) {
     checkNotNull(password, "Password cannot be null");
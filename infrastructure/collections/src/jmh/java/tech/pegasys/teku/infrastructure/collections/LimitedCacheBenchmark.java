@@ -0,0 +1,86 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.pegasys.teku.infrastructure.collections.cache.Cache;
+import tech.pegasys.teku.infrastructure.collections.cache.ConcurrentLRUCache;
+import tech.pegasys.teku.infrastructure.collections.cache.LRUCache;
+
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class LimitedCacheBenchmark {
+  private static final int CAPACITY = 1024;
+
+  @Param({"synchronized", "concurrent"})
+  String implementation;
+
+  // Ratio of the key range to the capacity, 2 means roughly half of the lookups miss
+  @Param({"1", "2"})
+  int keyRangeFactor;
+
+  private Cache<Integer, Integer> cache;
+  private Map<Integer, Integer> map;
+  private int keyRange;
+
+  @Setup(Level.Trial)
+  public void init() {
+    final boolean concurrent = implementation.equals("concurrent");
+    cache = concurrent ? ConcurrentLRUCache.create(CAPACITY) : LRUCache.create(CAPACITY);
+    map =
+        concurrent
+            ? LimitedMap.createConcurrentLRU(CAPACITY)
+            : LimitedMap.createSynchronizedLRU(CAPACITY);
+    keyRange = CAPACITY * keyRangeFactor;
+    for (int key = 0; key < CAPACITY; key++) {
+      cache.get(key, k -> k);
+      map.put(key, key);
+    }
+  }
+
+  @Benchmark
+  public Integer cacheGet() {
+    return cache.get(nextKey(), k -> k);
+  }
+
+  @Benchmark
+  public Integer mapGetOrPut() {
+    final Integer key = nextKey();
+    final Integer value = map.get(key);
+    if (value != null) {
+      return value;
+    }
+    map.put(key, key);
+    return key;
+  }
+
+  private Integer nextKey() {
+    return ThreadLocalRandom.current().nextInt(keyRange);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Helper that creates a concurrent map with a maximum capacity. Entries are spread over
+ * independently locked segments and reads are recorded without taking a lock, so eviction follows
+ * approximate LRU order within each segment.
+ */
+final class ConcurrentLimitedMap<K, V> extends AbstractLimitedMap<K, V> {
+
+  ConcurrentLimitedMap(final int maxSize) {
+    this(CacheBuilder.newBuilder().maximumSize(maxSize).build(), maxSize);
+  }
+
+  private ConcurrentLimitedMap(final Cache<K, V> cache, final int maxSize) {
+    super(cache.asMap(), maxSize);
+  }
+
+  @Override
+  public LimitedMap<K, V> copy() {
+    final ConcurrentLimitedMap<K, V> map = new ConcurrentLimitedMap<>(getMaxSize());
+    map.putAll(delegate);
+    return map;
+  }
+}
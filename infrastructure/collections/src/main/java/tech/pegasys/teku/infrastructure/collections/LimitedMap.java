@@ -49,6 +49,26 @@ public interface LimitedMap<K, V> extends Map<K, V> {
     return new SynchronizedLimitedMap<>(maxSize, true);
   }
 
+  /**
+   * Creates a limited map. The returned map is safe for all forms of concurrent access including
+   * iteration and evicts approximately the least recently accessed items.
+   *
+   * <p>Unlike {@link #createSynchronizedLRU(int)}, reads don't contend on a single lock, which
+   * makes this variant preferable for maps read from many threads at once.
+   *
+   * <p>The size limit is split across up to 4 independently evicting segments. A map with a max
+   * size of 40 or more has at least 2 segments, and one of 80 or more has 4. Eviction starts when
+   * a single segment is full, so the map may evict items before it holds {@code maxSize} of them.
+   *
+   * @param maxSize The maximum number of elements to keep in the map.
+   * @param <K> The key type of the map.
+   * @param <V> The value type of the map.
+   * @return A map that will evict elements when the max size is exceeded.
+   */
+  static <K, V> LimitedMap<K, V> createConcurrentLRU(final int maxSize) {
+    return new ConcurrentLimitedMap<>(maxSize);
+  }
+
   /**
    * Creates a limited map.
    *
@@ -37,6 +37,25 @@ public final class LimitedSet {
     return Collections.newSetFromMap(LimitedMap.createSynchronizedLRU(maxSize));
   }
 
+  /**
+   * Creates a limited set. The returned set is safe for all forms of concurrent access including
+   * iteration and evicts approximately the least recently used items.
+   *
+   * <p>Unlike {@link #createSynchronizedLRU(int)}, reads don't contend on a single lock, which
+   * makes this variant preferable for sets read from many threads at once.
+   *
+   * <p>The size limit is split across up to 4 independently evicting segments. A set with a max
+   * size of 40 or more has at least 2 segments, and one of 80 or more has 4. Eviction starts when
+   * a single segment is full, so the set may evict items before it holds {@code maxSize} of them.
+   *
+   * @param maxSize The maximum number of elements to keep in the set.
+   * @param <T> The type of object held in the set.
+   * @return A set that will evict elements when the max size is exceeded.
+   */
+  public static <T> Set<T> createConcurrentLRU(final int maxSize) {
+    return Collections.newSetFromMap(LimitedMap.createConcurrentLRU(maxSize));
+  }
+
   /**
    * Creates a limited set.
    *
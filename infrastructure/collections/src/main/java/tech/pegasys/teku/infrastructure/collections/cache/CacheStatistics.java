@@ -0,0 +1,23 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+/**
+ * Snapshot of cache usage counters
+ *
+ * @param hitCount number of lookups that found a cached value
+ * @param missCount number of lookups that did not find a cached value
+ * @param evictionCount number of entries removed to stay within the cache capacity
+ */
+public record CacheStatistics(long hitCount, long missCount, long evictionCount) {}
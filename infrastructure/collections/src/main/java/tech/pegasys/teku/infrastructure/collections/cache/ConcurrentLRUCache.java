@@ -0,0 +1,110 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache with fixed size safe for concurrent access without a cache wide lock. Entries are spread
+ * over independently locked segments, lookups of cached values don't block and eviction follows
+ * approximate LRU order within each segment. A capacity of 40 or more is split over at least 2
+ * segments and one of 80 or more over 4, so entries may be evicted before the cache is full.
+ *
+ * <p>Unlike {@link LRUCache} the fallback function is called without holding any lock, so
+ * concurrent misses for the same key may compute the value more than once.
+ *
+ * @param <K> Keys type
+ * @param <V> Values type
+ */
+public class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+
+  public static <K, V> ConcurrentLRUCache<K, V> create(final int capacity) {
+    return new ConcurrentLRUCache<>(capacity);
+  }
+
+  private final int capacity;
+  private final com.google.common.cache.Cache<K, V> cacheData;
+
+  private ConcurrentLRUCache(final int capacity) {
+    this.capacity = capacity;
+    this.cacheData = CacheBuilder.newBuilder().maximumSize(capacity).recordStats().build();
+  }
+
+  @Override
+  public Cache<K, V> copy() {
+    final ConcurrentLRUCache<K, V> copy = new ConcurrentLRUCache<>(capacity);
+    copy.cacheData.putAll(cacheData.asMap());
+    return copy;
+  }
+
+  /**
+   * Queries value from the cache. If it's not found there, fallback function is used to calculate
+   * value. After calculation result is put in cache and returned.
+   *
+   * @param key Key to query
+   * @param fallback Fallback function for calculation of the result in case of missed cache entry
+   * @return expected value result for provided key
+   */
+  @Override
+  public V get(final K key, final Function<K, V> fallback) {
+    final V cached = cacheData.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    final V result = fallback.apply(key);
+    if (result != null) {
+      cacheData.put(key, result);
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<V> getCached(final K key) {
+    return Optional.ofNullable(cacheData.getIfPresent(key));
+  }
+
+  @Override
+  public void invalidate(final K key) {
+    cacheData.invalidate(key);
+  }
+
+  @Override
+  public void invalidateWithNewValue(final K key, final V newValue) {
+    if (newValue == null) {
+      cacheData.invalidate(key);
+    } else {
+      cacheData.put(key, newValue);
+    }
+  }
+
+  @Override
+  public void clear() {
+    cacheData.invalidateAll();
+  }
+
+  @Override
+  public int size() {
+    return (int) cacheData.size();
+  }
+
+  /** Returns hit, miss and eviction counts recorded since this cache was created */
+  public CacheStatistics getStatistics() {
+    final CacheStats stats = cacheData.stats();
+    return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount());
+  }
+}
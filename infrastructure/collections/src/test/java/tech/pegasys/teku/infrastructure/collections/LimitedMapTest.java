@@ -38,6 +38,37 @@ public class LimitedMapTest {
     assertThat(map.containsKey(1)).isTrue();
   }
 
+  @Test
+  public void createConcurrentLRU_evictLeastRecentlyAccessed() {
+    final Map<Integer, Integer> map = LimitedMap.createConcurrentLRU(2);
+    map.put(1, 1);
+    map.put(2, 2);
+    assertThat(map.size()).isEqualTo(2);
+
+    // Access element 1 then add a new element that will put us over the limit
+    map.get(1);
+
+    map.put(3, 3);
+    assertThat(map.size()).isEqualTo(2);
+    // Element 2 should have been evicted
+    assertThat(map.containsKey(3)).isTrue();
+    assertThat(map.containsKey(1)).isTrue();
+  }
+
+  @Test
+  public void createConcurrentLRU_copyShouldBeIndependent() {
+    final LimitedMap<Integer, Integer> map = LimitedMap.createConcurrentLRU(2);
+    map.put(1, 1);
+
+    final LimitedMap<Integer, Integer> copy = map.copy();
+    copy.put(2, 2);
+    map.remove(1);
+
+    assertThat(copy).containsOnlyKeys(1, 2);
+    assertThat(copy.getMaxSize()).isEqualTo(2);
+    assertThat(map).isEmpty();
+  }
+
   @Test
   public void createSynchronizedNatural_evictNaturalOrder() {
     final Map<Integer, Integer> map = LimitedMap.createSynchronizedNatural(2);
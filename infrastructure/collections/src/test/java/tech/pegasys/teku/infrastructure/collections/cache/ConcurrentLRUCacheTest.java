@@ -0,0 +1,135 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentLRUCacheTest {
+
+  private final int maxCacheSize = 16;
+  private final ConcurrentLRUCache<Integer, Integer> cache =
+      ConcurrentLRUCache.create(maxCacheSize);
+  private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void get_shouldCreateAnEntryWhenMiss() {
+    assertThat(cache.get(1, __ -> 777)).isEqualTo(777);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldReturnExistingEntryWhenHit() {
+    cache.get(1, __ -> 777);
+    assertThat(cache.get(1, __ -> 888)).isEqualTo(777);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldNotCacheNullResults() {
+    assertThat(cache.get(1, __ -> null)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void get_shouldEvictLeastRecentlyAccessed() {
+    for (int i = 0; i < maxCacheSize; i++) {
+      cache.get(i, key -> key);
+    }
+    cache.get(0, key -> key);
+
+    cache.get(maxCacheSize, key -> key);
+    assertThat(cache.size()).isEqualTo(maxCacheSize);
+    assertThat(cache.getCached(0)).contains(0);
+    assertThat(cache.getCached(1)).isEmpty();
+  }
+
+  @Test
+  void invalidateWithNewValue_shouldReplaceEntry() {
+    cache.get(0, __ -> 100);
+    cache.invalidateWithNewValue(0, 200);
+    cache.invalidateWithNewValue(1, 201);
+
+    assertThat(cache.getCached(0)).contains(200);
+    assertThat(cache.getCached(1)).contains(201);
+
+    cache.invalidate(0);
+    assertThat(cache.getCached(0)).isEmpty();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void copy_shouldCreateIsolatedInstance() {
+    cache.get(0, __ -> 100);
+
+    final Cache<Integer, Integer> copy = cache.copy();
+    copy.get(1, __ -> 101);
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+    assertThat(copy.getCached(0)).contains(100);
+    assertThat(copy.getCached(1)).contains(101);
+  }
+
+  @Test
+  void getStatistics_shouldCountHitsMissesAndEvictions() {
+    cache.get(0, key -> key);
+    cache.get(0, key -> key);
+    cache.getCached(1);
+    for (int i = 1; i <= maxCacheSize; i++) {
+      cache.get(i, key -> key);
+    }
+
+    // getCached(1) and the first lookup of every key are misses
+    assertThat(cache.getStatistics()).isEqualTo(new CacheStatistics(1, maxCacheSize + 2, 1));
+  }
+
+  @Test
+  void get_shouldStayWithinCapacityUnderConcurrentAccess() {
+    final int keyRange = maxCacheSize * 4;
+    final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (int thread = 0; thread < 8; thread++) {
+      futures.add(
+          CompletableFuture.runAsync(
+              () -> {
+                for (int i = 0; i < 10_000; i++) {
+                  final int key = ThreadLocalRandom.current().nextInt(keyRange);
+                  assertThat(cache.get(key, k -> k)).isEqualTo(key);
+                  if (i % 16 == 0) {
+                    cache.invalidate(key);
+                  }
+                }
+              },
+              executor));
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    assertThat(cache.size()).isLessThanOrEqualTo(maxCacheSize);
+    final CacheStatistics statistics = cache.getStatistics();
+    assertThat(statistics.hitCount() + statistics.missCount()).isEqualTo(80_000);
+  }
+}
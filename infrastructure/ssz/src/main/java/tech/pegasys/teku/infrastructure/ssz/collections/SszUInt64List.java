@@ -20,4 +20,16 @@ public interface SszUInt64List extends SszPrimitiveList<UInt64, SszUInt64> {
 
   @Override
   SszMutableUInt64List createWritableCopy();
+
+  /**
+   * Returns all values of this list as a flat array, with each value stored as its raw long bits.
+   * This is more efficient than reading the elements one by one when the whole list is processed.
+   */
+  default long[] toLongArray() {
+    final long[] values = new long[size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = getElement(i).longValue();
+    }
+    return values;
+  }
 }
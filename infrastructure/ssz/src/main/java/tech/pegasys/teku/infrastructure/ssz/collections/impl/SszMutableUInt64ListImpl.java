@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import java.util.Arrays;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
@@ -33,6 +35,19 @@ public class SszMutableUInt64ListImpl extends SszMutablePrimitiveListImpl<UInt64
     return (SszUInt64List) super.commitChanges();
   }
 
+  /** Reads the unchanged values from the backing list and applies pending changes on top */
+  @Override
+  public long[] toLongArray() {
+    final long[] values =
+        Arrays.copyOf(((SszUInt64List) backingImmutableData).toLongArray(), size());
+    final IntIterator changedIndices = getChangedChildIndices().iterator();
+    while (changedIndices.hasNext()) {
+      final int index = changedIndices.nextInt();
+      values[index] = getElement(index).longValue();
+    }
+    return values;
+  }
+
   @Override
   protected SszUInt64ListImpl createImmutableSszComposite(
       final TreeNode backingNode, final IntCache<SszUInt64> childrenCache) {
@@ -13,6 +13,8 @@
 
 package tech.pegasys.teku.infrastructure.ssz.collections.impl;
 
+import java.nio.ByteOrder;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.cache.IntCache;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
@@ -20,6 +22,7 @@ import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 
 public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
@@ -40,4 +43,34 @@ public class SszUInt64ListImpl extends SszPrimitiveListImpl<UInt64, SszUInt64>
   public SszMutableUInt64List createWritableCopy() {
     return new SszMutableUInt64ListImpl(this);
   }
+
+  /**
+   * Reads the packed leaves in a single pass over the tree rather than looking up each element.
+   * Leaves may hold fewer bytes than a full chunk (e.g. zero leaves), the missing values are zero.
+   */
+  @Override
+  public long[] toLongArray() {
+    final int size = size();
+    final long[] values = new long[size];
+    if (size == 0) {
+      return values;
+    }
+    final int chunksCount = (size - 1) / elementsPerChunk + 1;
+    final int[] chunkStartIndex = new int[1];
+    TreeUtil.iterateLeavesData(
+        getBackingNode(),
+        getSchema().getChildGeneralizedIndex(0),
+        getSchema().getChildGeneralizedIndex(chunksCount - 1),
+        leafData -> {
+          final int valuesCount = Math.min(leafData.size() / Long.BYTES, size - chunkStartIndex[0]);
+          for (int i = 0; i < valuesCount; i++) {
+            values[chunkStartIndex[0] + i] =
+                leafData.getLong(i * Long.BYTES, ByteOrder.LITTLE_ENDIAN);
+          }
+          // super nodes pack several chunks into a single leaf
+          final int leafChunks = Math.max(1, (leafData.size() - 1) / Bytes32.SIZE + 1);
+          chunkStartIndex[0] += leafChunks * elementsPerChunk;
+        });
+    return values;
+  }
 }
@@ -17,6 +17,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectRBTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -136,6 +137,11 @@ public abstract class AbstractSszMutableComposite<
     }
   }
 
+  /** Returns the indices of the children changed in this instance (read-only view) */
+  protected IntSortedSet getChangedChildIndices() {
+    return childrenChanges.keySet();
+  }
+
   @Override
   public SszCompositeSchema<?> getSchema() {
     return cachedSchema;
@@ -632,7 +632,7 @@ public abstract class AbstractSszProgressiveListSchema<
       final Bytes data = nodeSource.loadLeafNode(chunkHash, chunkGIndex);
       return LeafNode.create(data);
     } else {
-      return elementSchema.loadBackingNodes(nodeSource, chunkHash, chunkGIndex);
+      return LoadingUtil.loadChildObject(elementSchema, nodeSource, chunkHash, chunkGIndex);
     }
   }
 
@@ -153,7 +153,8 @@ public interface SszContainerSchema<C extends SszContainer> extends SszComposite
   private TreeNode loadChildNode(
       final TreeNodeSource nodeSource, final Bytes32 childHash, final long childGIndex) {
     final int childIndex = GIndexUtil.gIdxChildIndexFromGIndex(childGIndex, treeDepth());
-    return getChildSchema(childIndex).loadBackingNodes(nodeSource, childHash, childGIndex);
+    return LoadingUtil.loadChildObject(
+        getChildSchema(childIndex), nodeSource, childHash, childGIndex);
   }
 
   /** Returns this container name */
@@ -87,6 +87,23 @@ public class SszSchemaHints {
     }
   }
 
+  /**
+   * Hint for byte vector schemas to back deserialized vectors with a single packed node holding the
+   * serialized bytes, instead of a materialized tree. Intended for large, rarely updated vectors
+   * such as blobs and cells. Has no effect on vectors fitting into a single chunk.
+   */
+  public static final class SszPackedBytesHint extends SszSchemaHint {
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof SszPackedBytesHint;
+    }
+
+    @Override
+    public int hashCode() {
+      return SszPackedBytesHint.class.hashCode();
+    }
+  }
+
   public static SszSchemaHints of(final SszSchemaHint... hints) {
     return new SszSchemaHints(Arrays.asList(hints));
   }
@@ -103,6 +120,10 @@ public class SszSchemaHints {
     return of(new SszPackedByteListsHint());
   }
 
+  public static SszSchemaHints sszPackedBytes() {
+    return of(new SszPackedBytesHint());
+  }
+
   private final List<SszSchemaHint> hints;
 
   private SszSchemaHints(final List<SszSchemaHint> hints) {
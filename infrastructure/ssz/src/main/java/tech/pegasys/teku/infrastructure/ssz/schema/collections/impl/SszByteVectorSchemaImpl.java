@@ -24,8 +24,14 @@ import tech.pegasys.teku.infrastructure.ssz.collections.impl.SszByteVectorImpl;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints.SszPackedBytesHint;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszByteVectorSchema;
 import tech.pegasys.teku.infrastructure.ssz.schema.impl.AbstractSszVectorSchema;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszReader;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszWriter;
+import tech.pegasys.teku.infrastructure.ssz.tree.SszPackedBytesNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil;
 
@@ -33,15 +39,30 @@ public class SszByteVectorSchemaImpl<SszVectorT extends SszByteVector>
     extends AbstractSszVectorSchema<SszByte, SszVectorT>
     implements SszByteVectorSchema<SszVectorT> {
 
+  private final boolean packedBytes;
+
   public SszByteVectorSchemaImpl(
       final SszPrimitiveSchema<Byte, SszByte> elementSchema, final long vectorLength) {
-    super(elementSchema, vectorLength);
+    this(elementSchema, vectorLength, SszSchemaHints.none());
+  }
+
+  public SszByteVectorSchemaImpl(
+      final SszPrimitiveSchema<Byte, SszByte> elementSchema,
+      final long vectorLength,
+      final SszSchemaHints hints) {
+    super(elementSchema, vectorLength, false, hints);
+    // a vector fitting into a single chunk is already backed by a single leaf
+    this.packedBytes = hints.getHint(SszPackedBytesHint.class).isPresent() && treeDepth() >= 1;
   }
 
   public SszByteVectorSchemaImpl(final long vectorLength) {
     this(SszPrimitiveSchemas.BYTE_SCHEMA, vectorLength);
   }
 
+  public SszByteVectorSchemaImpl(final long vectorLength, final SszSchemaHints hints) {
+    this(SszPrimitiveSchemas.BYTE_SCHEMA, vectorLength, hints);
+  }
+
   @Override
   protected DeserializableTypeDefinition<SszVectorT> createTypeDefinition() {
     return getElementSchema().equals(SszPrimitiveSchemas.BYTE_SCHEMA)
@@ -55,8 +76,32 @@ public class SszByteVectorSchemaImpl<SszVectorT extends SszByteVector>
     return (SszVectorT) new SszByteVectorImpl(this, node);
   }
 
+  @Override
+  public TreeNode sszDeserializeTree(final SszReader reader) {
+    if (!packedBytes) {
+      return super.sszDeserializeTree(reader);
+    }
+    if (reader.getAvailableBytes() != getLength()) {
+      throw new SszDeserializeException("Invalid Vector ssz");
+    }
+    return new SszPackedBytesNode(reader.read(getLength()), treeDepth());
+  }
+
+  @Override
+  public int sszSerializeTree(final TreeNode node, final SszWriter writer) {
+    if (node instanceof SszPackedBytesNode packedNode) {
+      writer.write(packedNode.getSszBytes());
+      return packedNode.getSszBytes().size();
+    }
+    return super.sszSerializeTree(node, writer);
+  }
+
   @Override
   public SszVectorT fromBytes(final Bytes bytes) {
+    if (packedBytes) {
+      checkArgument(bytes.size() == getLength(), "Bytes size doesn't match vector length");
+      return createFromBackingNode(new SszPackedBytesNode(bytes, treeDepth()));
+    }
     return createFromBackingNode(fromBytesToTree(this, bytes));
   }
 
@@ -66,6 +111,9 @@ public class SszByteVectorSchemaImpl<SszVectorT extends SszByteVector>
   }
 
   public static Bytes fromTreeToBytes(final SszByteVectorSchema<?> schema, final TreeNode tree) {
+    if (tree instanceof SszPackedBytesNode packedNode) {
+      return packedNode.getSszBytes();
+    }
     Bytes bytes = TreeUtil.concatenateLeavesData(tree);
     checkArgument(bytes.size() == schema.getLength(), "Tree doesn't match vector schema");
     return bytes;
@@ -722,6 +722,6 @@ public abstract class AbstractSszContainerSchema<C extends SszContainer>
     if (TreeUtil.ZERO_TREES_BY_ROOT.containsKey(chunkHash) || chunkHash.equals(Bytes32.ZERO)) {
       return fieldSchema.getDefaultTree();
     }
-    return fieldSchema.loadBackingNodes(nodeSource, chunkHash, chunkGIndex);
+    return LoadingUtil.loadChildObject(fieldSchema, nodeSource, chunkHash, chunkGIndex);
   }
 }
@@ -18,6 +18,7 @@ import static tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.bitsCeilToBytes
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchema;
@@ -198,10 +199,29 @@ public class LoadingUtil {
         return createLeaf(data.slice(0, lastNodeSizeBytes));
       }
     } else {
-      return elementSchema.loadBackingNodes(childNodeSource, childHash, childGIndex);
+      return loadChildObject(elementSchema, childNodeSource, childHash, childGIndex);
     }
   }
 
+  /**
+   * Loads the backing nodes of a whole SSZ object, reusing the node the source already has for it
+   * when one exists. Reuse is limited to complete objects since their root commits to every length
+   * inside them, whereas a packed chunk with the same hash may hold leaf data of a different size.
+   */
+  public static TreeNode loadChildObject(
+      final SszSchema<?> schema,
+      final TreeNodeSource nodeSource,
+      final Bytes32 rootHash,
+      final long rootGIndex) {
+    if (!schema.isPrimitive()) {
+      final Optional<TreeNode> existingNode = nodeSource.loadExistingNode(rootHash, rootGIndex);
+      if (existingNode.isPresent()) {
+        return existingNode.get();
+      }
+    }
+    return schema.loadBackingNodes(nodeSource, rootHash, rootGIndex);
+  }
+
   static LeafNode createLeaf(final Bytes data) {
     if (data.size() < Bytes32.SIZE && data.isZero()) {
       return LeafNode.ZERO_LEAVES[data.size()];
@@ -240,7 +240,8 @@ public class SszOptionalSchemaImpl<ElementDataT extends SszData>
             .getInt(0, ByteOrder.LITTLE_ENDIAN);
     checkState(isPresent <= IS_PRESENT_PREFIX, "Selector is out of bounds");
     final TreeNode valueNode =
-        childSchema.loadBackingNodes(nodeSource, valueHash, GIndexUtil.gIdxLeftGIndex(rootGIndex));
+        LoadingUtil.loadChildObject(
+            childSchema, nodeSource, valueHash, GIndexUtil.gIdxLeftGIndex(rootGIndex));
     return createTreeNode(valueNode, isPresent == IS_PRESENT_PREFIX);
   }
 
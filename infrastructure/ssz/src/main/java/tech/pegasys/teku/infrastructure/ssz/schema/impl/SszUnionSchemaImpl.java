@@ -257,7 +257,8 @@ public abstract class SszUnionSchemaImpl<SszUnionT extends SszUnion>
     checkState(selector < getTypesCount(), "Selector is out of bounds");
     SszSchema<?> childSchema = getChildSchema(selector);
     TreeNode valueNode =
-        childSchema.loadBackingNodes(nodeSource, valueHash, GIndexUtil.gIdxLeftGIndex(rootGIndex));
+        LoadingUtil.loadChildObject(
+            childSchema, nodeSource, valueHash, GIndexUtil.gIdxLeftGIndex(rootGIndex));
     return createUnionNode(valueNode, selector);
   }
 
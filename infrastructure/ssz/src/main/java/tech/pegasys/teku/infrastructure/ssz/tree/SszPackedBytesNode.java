@@ -0,0 +1,186 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.jetbrains.annotations.NotNull;
+import tech.pegasys.teku.infrastructure.crypto.Sha256;
+
+/// Backs an entire `Vector[byte, N]` subtree with its serialized SSZ bytes.
+///
+/// Deserializing a large byte vector (a blob or a cell) would otherwise split the bytes into one
+/// leaf node per 32 byte chunk, only for the view to concatenate them back into a single `Bytes`.
+/// This node retains the bytes (typically a zero-copy slice of the incoming buffer) and computes
+/// `hashTreeRoot` by streaming merkleization on first request, caching a single root.
+///
+/// Navigation is virtual: `left()`/`right()` return lightweight range wrappers and leaves are
+/// created on demand. Both `updated` overloads decay this node into the fully materialized
+/// equivalent and apply the update there — the cold path by design.
+public class SszPackedBytesNode implements BranchNode {
+
+  private final Bytes sszBytes;
+  private final int depth;
+  private volatile Bytes32 cachedHash = null;
+
+  public SszPackedBytesNode(final Bytes sszBytes, final int depth) {
+    checkArgument(depth >= 1 && depth < TreeUtil.ZERO_TREES.length, "Invalid depth: %s", depth);
+    checkArgument(
+        sszBytes.size() <= (1L << depth) * LeafNode.MAX_BYTE_SIZE,
+        "More bytes than the tree depth allows");
+    this.sszBytes = sszBytes;
+    this.depth = depth;
+  }
+
+  public Bytes getSszBytes() {
+    return sszBytes;
+  }
+
+  /** The fully materialized equivalent tree; used by the update decay path. */
+  public TreeNode materialize() {
+    final List<TreeNode> leaves = new ArrayList<>(chunksCount());
+    for (int i = 0; i < chunksCount(); i++) {
+      leaves.add(leafNode(i));
+    }
+    return TreeUtil.createTree(leaves, depth);
+  }
+
+  private int chunksCount() {
+    return (sszBytes.size() + LeafNode.MAX_BYTE_SIZE - 1) / LeafNode.MAX_BYTE_SIZE;
+  }
+
+  private LeafNode leafNode(final int chunkIndex) {
+    final int firstByte = chunkIndex * LeafNode.MAX_BYTE_SIZE;
+    return LeafNode.create(
+        sszBytes.slice(firstByte, Math.min(LeafNode.MAX_BYTE_SIZE, sszBytes.size() - firstByte)));
+  }
+
+  private TreeNode childNode(final long firstChunk, final int childDepth) {
+    if (firstChunk >= chunksCount()) {
+      return TreeUtil.ZERO_TREES[childDepth];
+    }
+    if (childDepth == 0) {
+      return leafNode((int) firstChunk);
+    }
+    return new VirtualBranchNode(firstChunk, childDepth);
+  }
+
+  @Override
+  @NotNull
+  public TreeNode left() {
+    return childNode(0, depth - 1);
+  }
+
+  @Override
+  @NotNull
+  public TreeNode right() {
+    return childNode(1L << (depth - 1), depth - 1);
+  }
+
+  @Override
+  public BranchNode rebind(final boolean left, final TreeNode newNode) {
+    return left ? BranchNode.create(newNode, right()) : BranchNode.create(left(), newNode);
+  }
+
+  @Override
+  public TreeNode updated(final TreeUpdates newNodes) {
+    if (newNodes.isEmpty()) {
+      return this;
+    } else if (newNodes.isFinal()) {
+      return newNodes.getNode(0);
+    } else {
+      return materialize().updated(newNodes);
+    }
+  }
+
+  @Override
+  public TreeNode updated(
+      final long generalizedIndex, final Function<TreeNode, TreeNode> nodeUpdater) {
+    if (GIndexUtil.gIdxIsSelf(generalizedIndex)) {
+      return nodeUpdater.apply(this);
+    }
+    return materialize().updated(generalizedIndex, nodeUpdater);
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot() {
+    Bytes32 cachedHash = this.cachedHash;
+    if (cachedHash == null) {
+      cachedHash = BranchNode.super.hashTreeRoot();
+      this.cachedHash = cachedHash;
+    }
+    return cachedHash;
+  }
+
+  @Override
+  public Bytes32 hashTreeRoot(final Sha256 sha256) {
+    Bytes32 cachedHash = this.cachedHash;
+    if (cachedHash == null) {
+      cachedHash = SszPackedByteListsNode.byteChunksRoot(sha256, sszBytes, 0, depth);
+      this.cachedHash = cachedHash;
+    }
+    return cachedHash;
+  }
+
+  @Override
+  public String toString() {
+    return "PackedBytes[" + sszBytes.size() + " bytes]";
+  }
+
+  /// Lazily materialized branch covering chunks `[firstChunk, firstChunk + 2^nodeDepth)`.
+  /// Stateless: roots are recomputed per call; anything holding subtree roots long-term should
+  /// materialize instead.
+  private class VirtualBranchNode implements BranchNode {
+    private final long firstChunk;
+    private final int nodeDepth;
+
+    private VirtualBranchNode(final long firstChunk, final int nodeDepth) {
+      this.firstChunk = firstChunk;
+      this.nodeDepth = nodeDepth;
+    }
+
+    @Override
+    @NotNull
+    public TreeNode left() {
+      return childNode(firstChunk, nodeDepth - 1);
+    }
+
+    @Override
+    @NotNull
+    public TreeNode right() {
+      return childNode(firstChunk + (1L << (nodeDepth - 1)), nodeDepth - 1);
+    }
+
+    @Override
+    public BranchNode rebind(final boolean left, final TreeNode newNode) {
+      return left ? BranchNode.create(newNode, right()) : BranchNode.create(left(), newNode);
+    }
+
+    @Override
+    public Bytes32 hashTreeRoot(final Sha256 sha256) {
+      return SszPackedByteListsNode.byteChunksRoot(
+          sha256, sszBytes, Math.toIntExact(firstChunk), nodeDepth);
+    }
+
+    @Override
+    public String toString() {
+      return "PackedBytesRange[chunk " + firstChunk + ", depth " + nodeDepth + "]";
+    }
+  }
+}
@@ -16,6 +16,7 @@ package tech.pegasys.teku.infrastructure.ssz.tree;
 import com.google.common.base.MoreObjects;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 
@@ -24,6 +25,19 @@ public interface TreeNodeSource {
 
   Bytes loadLeafNode(Bytes32 rootHash, long gIndex);
 
+  /**
+   * Returns an already materialized node for the SSZ object with the specified root at the
+   * specified generalized index, if this source has one. Loaders use it as-is instead of rebuilding
+   * the object node by node, so the returned subtree must back an object of the same schema.
+   *
+   * @param rootHash the hash of the root node of the object
+   * @param gIndex the generalized index of the object in the overall tree
+   * @return the existing node or empty if it has to be loaded
+   */
+  default Optional<TreeNode> loadExistingNode(final Bytes32 rootHash, final long gIndex) {
+    return Optional.empty();
+  }
+
   class CompressedBranchInfo {
     private final int depth;
     private final Bytes32[] children;
@@ -0,0 +1,100 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszMutableUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszUInt64ListSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+class SszUInt64ListImplTest {
+
+  private final SszUInt64ListSchema<SszUInt64List> schema = SszUInt64ListSchema.create(1024);
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 8, 17, 1024})
+  void toLongArray_shouldReturnAllElements(final int size) {
+    final SszUInt64List list = createList(size);
+
+    assertThat(list.toLongArray()).containsExactly(getElementsOneByOne(list));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 8, 17, 1024})
+  void toLongArray_shouldReturnAllElementsOfDeserializedList(final int size) {
+    final SszUInt64List list = schema.sszDeserialize(createList(size).sszSerialize());
+
+    assertThat(list.toLongArray()).containsExactly(getElementsOneByOne(list));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 8, 17})
+  void toLongArray_shouldReturnZeroesForEmptyLeaves(final int size) {
+    // reuse the default (empty leaves) data tree with a non-zero length
+    final TreeNode dataTree =
+        schema.getDefault().getBackingNode().get(GIndexUtil.LEFT_CHILD_G_INDEX);
+    final SszUInt64List list =
+        schema.createFromBackingNode(
+            BranchNode.create(dataTree, SszUInt64.of(UInt64.valueOf(size)).getBackingNode()));
+
+    assertThat(list.toLongArray()).containsExactly(new long[size]);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 5, 8, 17})
+  void toLongArray_shouldIncludeUncommittedChanges(final int size) {
+    final SszMutableUInt64List list = createList(size).createWritableCopy();
+    if (size > 0) {
+      list.setElement(0, UInt64.valueOf(999));
+      list.setElement(size - 1, UInt64.MAX_VALUE);
+    }
+    list.appendElement(UInt64.valueOf(1234));
+
+    assertThat(list.toLongArray()).containsExactly(getElementsOneByOne(list));
+    assertThat(list.commitChanges().toLongArray()).containsExactly(getElementsOneByOne(list));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 5})
+  void toLongArray_shouldReflectClearedList(final int size) {
+    final SszMutableUInt64List list = createList(17).createWritableCopy();
+    list.clear();
+    IntStream.range(0, size).forEach(i -> list.appendElement(UInt64.valueOf(i + 100)));
+
+    assertThat(list.toLongArray()).containsExactly(getElementsOneByOne(list));
+  }
+
+  private SszUInt64List createList(final int size) {
+    return schema.of(
+        LongStream.range(0, size)
+            .mapToObj(i -> UInt64.fromLongBits(i * 0x0102030405060708L))
+            .toArray(UInt64[]::new));
+  }
+
+  private long[] getElementsOneByOne(final SszUInt64List list) {
+    return IntStream.range(0, list.size())
+        .mapToLong(i -> list.getElement(i).longValue())
+        .toArray();
+  }
+}
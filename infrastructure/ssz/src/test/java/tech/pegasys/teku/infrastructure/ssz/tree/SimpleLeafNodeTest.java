@@ -0,0 +1,83 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.pegasys.teku.infrastructure.crypto.Hash;
+
+public class SimpleLeafNodeTest {
+
+  private static Bytes bytesOfLength(final int length) {
+    final byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) {
+      data[i] = (byte) (i + 1);
+    }
+    return Bytes.wrap(data);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 8, 31, 32})
+  void getData_shouldReturnOriginalData(final int length) {
+    final Bytes data = bytesOfLength(length);
+    final LeafNode leaf = LeafNode.create(data);
+
+    assertThat(leaf.getData()).isEqualTo(data);
+    assertThat(leaf.getData().size()).isEqualTo(length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 8, 31, 32})
+  void hashTreeRoot_shouldBeRightPaddedData(final int length) {
+    final Bytes data = bytesOfLength(length);
+    final LeafNode leaf = LeafNode.create(data);
+
+    assertThat(leaf.hashTreeRoot()).isEqualTo(Bytes32.rightPad(data));
+    assertThat(leaf.hashTreeRoot(Hash.getSha256Instance())).isEqualTo(Bytes32.rightPad(data));
+  }
+
+  @Test
+  void getData_shouldReturnBytes32ForFullLeaf() {
+    final LeafNode leaf = LeafNode.create(bytesOfLength(32));
+
+    assertThat(leaf.getData()).isInstanceOf(Bytes32.class);
+  }
+
+  @Test
+  void create_shouldNotShareArrayOfLargerSource() {
+    final byte[] source = bytesOfLength(64).toArray();
+    final LeafNode fullLeaf = LeafNode.create(Bytes.wrap(source, 0, 32));
+    final LeafNode shortLeaf = LeafNode.create(Bytes.wrap(source, 32, 8));
+
+    source[0] = 0;
+    source[32] = 0;
+
+    assertThat(fullLeaf.getData()).isEqualTo(bytesOfLength(32));
+    assertThat(shortLeaf.getData()).isEqualTo(bytesOfLength(64).slice(32, 8));
+  }
+
+  @Test
+  void equals_shouldCompareData() {
+    assertThat(LeafNode.create(bytesOfLength(8))).isEqualTo(LeafNode.create(bytesOfLength(8)));
+    assertThat(LeafNode.create(bytesOfLength(8)))
+        .hasSameHashCodeAs(LeafNode.create(bytesOfLength(8)));
+    assertThat(LeafNode.create(bytesOfLength(8))).isNotEqualTo(LeafNode.create(bytesOfLength(9)));
+    assertThat(LeafNode.create(Bytes.wrap(new byte[8]))).isEqualTo(LeafNode.ZERO_LEAVES[8]);
+  }
+}
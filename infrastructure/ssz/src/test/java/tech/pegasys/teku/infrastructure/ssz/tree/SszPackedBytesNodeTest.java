@@ -0,0 +1,125 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszByteVector;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchemaHints;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.impl.SszByteVectorSchemaImpl;
+import tech.pegasys.teku.infrastructure.ssz.sos.SszDeserializeException;
+
+public class SszPackedBytesNodeTest {
+
+  static List<Integer> vectorLengths() {
+    return List.of(33, 64, 100, 2048);
+  }
+
+  static Bytes bytesOfLength(final int length) {
+    final byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) {
+      data[i] = (byte) (i * 7 + 1);
+    }
+    return Bytes.wrap(data);
+  }
+
+  static SszByteVectorSchemaImpl<SszByteVector> hintedSchema(final int length) {
+    return new SszByteVectorSchemaImpl<>(length, SszSchemaHints.sszPackedBytes());
+  }
+
+  static SszByteVectorSchemaImpl<SszByteVector> oracleSchema(final int length) {
+    return new SszByteVectorSchemaImpl<>(length);
+  }
+
+  @ParameterizedTest
+  @MethodSource("vectorLengths")
+  public void sszDeserialize_shouldBackVectorWithPackedNode(final int length) {
+    final Bytes ssz = bytesOfLength(length);
+    final SszByteVector vector = hintedSchema(length).sszDeserialize(ssz);
+
+    assertThat(vector.getBackingNode()).isInstanceOf(SszPackedBytesNode.class);
+    assertThat(vector.getBytes()).isEqualTo(ssz);
+    assertThat(vector.sszSerialize()).isEqualTo(ssz);
+  }
+
+  @ParameterizedTest
+  @MethodSource("vectorLengths")
+  public void hashTreeRoot_shouldMatchOracle(final int length) {
+    final Bytes ssz = bytesOfLength(length);
+
+    assertThat(hintedSchema(length).sszDeserialize(ssz).hashTreeRoot())
+        .isEqualTo(oracleSchema(length).sszDeserialize(ssz).hashTreeRoot());
+    assertThat(hintedSchema(length).fromBytes(ssz).hashTreeRoot())
+        .isEqualTo(oracleSchema(length).fromBytes(ssz).hashTreeRoot());
+  }
+
+  @ParameterizedTest
+  @MethodSource("vectorLengths")
+  public void get_shouldMatchOracleSubtrees(final int length) {
+    final Bytes ssz = bytesOfLength(length);
+    final SszByteVectorSchemaImpl<SszByteVector> schema = hintedSchema(length);
+    final TreeNode packed = schema.sszDeserialize(ssz).getBackingNode();
+    final TreeNode oracle = oracleSchema(length).sszDeserialize(ssz).getBackingNode();
+
+    final long maxGIndex = 2L << schema.treeDepth();
+    for (long gIndex = GIndexUtil.LEFT_CHILD_G_INDEX; gIndex < maxGIndex; gIndex++) {
+      assertThat(packed.get(gIndex).hashTreeRoot())
+          .describedAs("gIndex %s", gIndex)
+          .isEqualTo(oracle.get(gIndex).hashTreeRoot());
+    }
+    final long lastChunkGIndex = schema.getChildGeneralizedIndex((length - 1) / 32);
+    assertThat(((LeafNode) packed.get(lastChunkGIndex)).getData())
+        .isEqualTo(((LeafNode) oracle.get(lastChunkGIndex)).getData());
+  }
+
+  @Test
+  public void updated_shouldDecayToMaterializedTree() {
+    final Bytes ssz = bytesOfLength(100);
+    final SszByteVectorSchemaImpl<SszByteVector> schema = hintedSchema(100);
+    final TreeNode packed = schema.sszDeserialize(ssz).getBackingNode();
+    final TreeNode oracle = oracleSchema(100).sszDeserialize(ssz).getBackingNode();
+    final long gIndex = schema.getChildGeneralizedIndex(1);
+    final TreeNode newLeaf = LeafNode.create(Bytes.repeat((byte) 0xAB, 32));
+
+    final TreeNode updated = packed.updated(gIndex, newLeaf);
+
+    assertThat(updated).isNotInstanceOf(SszPackedBytesNode.class);
+    assertThat(updated.hashTreeRoot()).isEqualTo(oracle.updated(gIndex, newLeaf).hashTreeRoot());
+    assertThat(packed.hashTreeRoot()).isEqualTo(oracle.hashTreeRoot());
+  }
+
+  @Test
+  public void sszDeserialize_shouldRejectWrongLength() {
+    assertThatThrownBy(() -> hintedSchema(64).sszDeserialize(bytesOfLength(63)))
+        .isInstanceOf(SszDeserializeException.class);
+    assertThatThrownBy(() -> hintedSchema(64).sszDeserialize(bytesOfLength(65)))
+        .isInstanceOf(SszDeserializeException.class);
+  }
+
+  @Test
+  public void hint_shouldBeIgnoredForSingleChunkVector() {
+    final Bytes ssz = bytesOfLength(32);
+    final SszByteVector vector = hintedSchema(32).sszDeserialize(ssz);
+
+    assertThat(vector.getBackingNode()).isInstanceOf(LeafNode.class);
+    assertThat(vector.hashTreeRoot())
+        .isEqualTo(oracleSchema(32).sszDeserialize(ssz).hashTreeRoot());
+  }
+}
@@ -447,6 +447,52 @@ class UInt64Test {
     assertThatThrownBy(() -> UInt64.ONE.times(-1)).isInstanceOf(IllegalArgumentException.class);
   }
 
+  @ParameterizedTest
+  @MethodSource("additionNumbers")
+  void addExact_shouldMatchPlus(final long value1, final long value2, final long sumOfValues) {
+    assertThat(UInt64.addExact(value1, value2)).isEqualTo(sumOfValues);
+    assertThat(UInt64.subtractExact(sumOfValues, value2)).isEqualTo(value1);
+    assertThat(UInt64.subtractMinZero(sumOfValues, value1)).isEqualTo(value2);
+  }
+
+  @Test
+  void addExact_shouldThrowArithmeticExceptionWhenResultOverflows() {
+    assertThatThrownBy(() -> UInt64.addExact(-1L, 1L)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.addExact(-1L, -1L)).isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void subtractExact_shouldThrowArithmeticExceptionWhenResultUnderflows() {
+    assertThatThrownBy(() -> UInt64.subtractExact(0L, 1L)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.subtractExact(14521245234L, -1L))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  void subtractMinZero_shouldReturnZeroWhenResultUnderflows() {
+    assertThat(UInt64.subtractMinZero(10, 11)).isZero();
+    assertThat(UInt64.subtractMinZero(10, -1L)).isZero();
+    assertThat(UInt64.subtractMinZero(10, 8)).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @MethodSource("multiplicationNumbers")
+  void multiplyExact_shouldMatchTimes(
+      final long value1, final long value2, final long expectedResult) {
+    assertThat(UInt64.multiplyExact(value1, value2)).isEqualTo(expectedResult);
+    assertThat(UInt64.multiplyExact(value2, value1)).isEqualTo(expectedResult);
+  }
+
+  @ParameterizedTest
+  @MethodSource("timesOverflowCases")
+  void multiplyExact_shouldThrowArithmeticExceptionWhenResultOverflows(
+      final long value1, final long value2) {
+    assertThatThrownBy(() -> UInt64.multiplyExact(value1, value2))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> UInt64.multiplyExact(value2, value1))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
   @ParameterizedTest
   @MethodSource("multiplicationNumbers")
   void dividedBy_shouldPerformIntegerDivision(
@@ -145,6 +145,7 @@ public class Eth2P2PNetworkBuilder {
   protected final List<PeerHandler> peerHandlers = new ArrayList<>();
   protected TimeProvider timeProvider;
   protected AsyncRunner asyncRunner;
+  protected AsyncRunner priorityAsyncRunner;
   protected KeyValueStore<String, Bytes> keyValueStore;
   protected Duration eth2RpcPingInterval = DEFAULT_ETH2_RPC_PING_INTERVAL;
   protected int eth2RpcOutstandingPingThreshold = DEFAULT_ETH2_RPC_OUTSTANDING_PING_THRESHOLD;
@@ -184,11 +185,15 @@ public class Eth2P2PNetworkBuilder {
     final RpcEncoding rpcEncoding =
         RpcEncoding.createSszSnappyEncoding(
             spec.getNetworkingConfig().getMaxPayloadSize(),
-            config.isRpcSnappyAircompressorEnabled());
+            config.isRpcSnappyAircompressorEnabled(),
+            metricsSystem);
     if (statusMessageFactory == null) {
       statusMessageFactory = new StatusMessageFactory(spec, combinedChainDataClient, metricsSystem);
       eventChannels.subscribe(SlotEventsChannel.class, statusMessageFactory);
     }
+    if (priorityAsyncRunner == null) {
+      priorityAsyncRunner = asyncRunner;
+    }
     if (metadataMessagesFactory != null && spec.isMilestoneSupported(SpecMilestone.FULU)) {
       eventChannels.subscribe(CustodyGroupCountChannel.class, metadataMessagesFactory);
     }
@@ -287,6 +292,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -303,6 +309,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -321,6 +328,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -339,6 +347,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -358,6 +367,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -378,6 +388,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -400,6 +411,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -425,6 +437,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -463,6 +476,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -489,6 +503,7 @@ public class Eth2P2PNetworkBuilder {
               forkAndSpecMilestone.getFork(),
               spec,
               asyncRunner,
+              priorityAsyncRunner,
               metricsSystem,
               network,
               combinedChainDataClient.getRecentChainData(),
@@ -857,6 +872,16 @@ public class Eth2P2PNetworkBuilder {
     return this;
   }
 
+  /**
+   * Runner used to process block and block sidecar gossip. Defaults to the {@link #asyncRunner}
+   * when not set.
+   */
+  public Eth2P2PNetworkBuilder priorityAsyncRunner(final AsyncRunner priorityAsyncRunner) {
+    checkNotNull(priorityAsyncRunner);
+    this.priorityAsyncRunner = priorityAsyncRunner;
+    return this;
+  }
+
   public Eth2P2PNetworkBuilder eth2RpcPingInterval(final Duration eth2RpcPingInterval) {
     checkNotNull(eth2RpcPingInterval);
     this.eth2RpcPingInterval = eth2RpcPingInterval;
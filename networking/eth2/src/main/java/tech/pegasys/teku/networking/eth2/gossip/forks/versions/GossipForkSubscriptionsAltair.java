@@ -51,6 +51,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -70,6 +71,7 @@ public class GossipForkSubscriptionsAltair extends GossipForkSubscriptionsPhase0
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -36,6 +36,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -55,6 +56,7 @@ public class GossipForkSubscriptionsBellatrix extends GossipForkSubscriptionsAlt
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
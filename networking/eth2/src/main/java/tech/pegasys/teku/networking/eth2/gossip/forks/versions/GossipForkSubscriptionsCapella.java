@@ -48,6 +48,7 @@ public class GossipForkSubscriptionsCapella extends GossipForkSubscriptionsBella
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -69,6 +70,7 @@ public class GossipForkSubscriptionsCapella extends GossipForkSubscriptionsBella
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -46,6 +46,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -68,6 +69,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -96,7 +98,7 @@ public class GossipForkSubscriptionsDeneb extends GossipForkSubscriptionsCapella
         BlobSidecarGossipManager.create(
             recentChainData,
             spec,
-            asyncRunner,
+            priorityAsyncRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
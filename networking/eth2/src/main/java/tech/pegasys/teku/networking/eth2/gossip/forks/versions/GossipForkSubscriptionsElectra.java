@@ -52,6 +52,7 @@ public class GossipForkSubscriptionsElectra extends GossipForkSubscriptionsDeneb
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -76,6 +77,7 @@ public class GossipForkSubscriptionsElectra extends GossipForkSubscriptionsDeneb
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
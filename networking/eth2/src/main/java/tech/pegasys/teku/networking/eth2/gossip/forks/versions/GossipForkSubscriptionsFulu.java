@@ -52,6 +52,7 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -79,6 +80,7 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -111,7 +113,7 @@ public class GossipForkSubscriptionsFulu extends GossipForkSubscriptionsElectra
     final DataColumnSidecarSubnetSubscriptions dataColumnSidecarSubnetSubscriptions =
         new DataColumnSidecarSubnetSubscriptions(
             spec,
-            asyncRunner,
+            priorityAsyncRunner,
             discoveryNetwork,
             gossipEncoding,
             recentChainData,
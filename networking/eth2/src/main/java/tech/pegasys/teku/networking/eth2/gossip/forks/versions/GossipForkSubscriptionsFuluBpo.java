@@ -46,6 +46,7 @@ public class GossipForkSubscriptionsFuluBpo extends GossipForkSubscriptionsFulu
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -74,6 +75,7 @@ public class GossipForkSubscriptionsFuluBpo extends GossipForkSubscriptionsFulu
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -63,6 +63,7 @@ public class GossipForkSubscriptionsGloas extends GossipForkSubscriptionsFulu {
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -95,6 +96,7 @@ public class GossipForkSubscriptionsGloas extends GossipForkSubscriptionsFulu {
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
@@ -135,7 +137,7 @@ public class GossipForkSubscriptionsGloas extends GossipForkSubscriptionsFulu {
         new ExecutionPayloadGossipManager(
             spec,
             recentChainData,
-            asyncRunner,
+            priorityAsyncRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
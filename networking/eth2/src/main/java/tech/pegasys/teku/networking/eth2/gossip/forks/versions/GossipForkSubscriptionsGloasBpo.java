@@ -50,6 +50,7 @@ public class GossipForkSubscriptionsGloasBpo extends GossipForkSubscriptionsGloa
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -83,6 +84,7 @@ public class GossipForkSubscriptionsGloasBpo extends GossipForkSubscriptionsGloa
         fork,
         spec,
         asyncRunner,
+        priorityAsyncRunner,
         metricsSystem,
         discoveryNetwork,
         recentChainData,
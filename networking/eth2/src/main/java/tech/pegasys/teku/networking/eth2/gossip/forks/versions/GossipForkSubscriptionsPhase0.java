@@ -50,6 +50,8 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
   private final Fork fork;
   protected final Spec spec;
   protected final AsyncRunner asyncRunner;
+  // Processes block and block sidecar topics so they are not queued behind attestations
+  protected final AsyncRunner priorityAsyncRunner;
   protected final MetricsSystem metricsSystem;
   protected final DiscoveryNetwork<?> discoveryNetwork;
   protected final RecentChainData recentChainData;
@@ -75,6 +77,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
       final Fork fork,
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final AsyncRunner priorityAsyncRunner,
       final MetricsSystem metricsSystem,
       final DiscoveryNetwork<?> discoveryNetwork,
       final RecentChainData recentChainData,
@@ -89,6 +92,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
     this.fork = fork;
     this.spec = spec;
     this.asyncRunner = asyncRunner;
+    this.priorityAsyncRunner = priorityAsyncRunner;
     this.metricsSystem = metricsSystem;
     this.discoveryNetwork = discoveryNetwork;
     this.recentChainData = recentChainData;
@@ -125,6 +129,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new AttestationSubnetSubscriptions(
             spec,
             asyncRunner,
+            metricsSystem,
             discoveryNetwork,
             gossipEncoding,
             recentChainData,
@@ -143,7 +148,7 @@ public class GossipForkSubscriptionsPhase0 implements GossipForkSubscriptions {
         new BlockGossipManager(
             recentChainData,
             spec,
-            asyncRunner,
+            priorityAsyncRunner,
             discoveryNetwork,
             gossipEncoding,
             forkInfo,
@@ -15,21 +15,26 @@ package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.Optional;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopicName;
 import tech.pegasys.teku.networking.eth2.gossip.topics.GossipTopics;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SeenSingleAttestations;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SingleAttestationTopicHandler;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.StaleAttestationFilter;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
 import tech.pegasys.teku.networking.p2p.gossip.TopicChannel;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
+import tech.pegasys.teku.spec.datastructures.operations.SingleAttestationSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
@@ -44,11 +49,15 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
   private final ForkInfo forkInfo;
   private final Bytes4 forkDigest;
   private final AttestationSchema<? extends Attestation> attestationSchema;
+  // shared by all subnets as duplicates are tracked regardless of the subnet they arrive on
+  private final Optional<SeenSingleAttestations> seenSingleAttestations;
+  private final StaleAttestationFilter staleAttestationFilter;
   private final DebugDataDumper debugDataDumper;
 
   public AttestationSubnetSubscriptions(
       final Spec spec,
       final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
       final GossipNetwork gossipNetwork,
       final GossipEncoding gossipEncoding,
       final RecentChainData recentChainData,
@@ -64,13 +73,25 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
     this.forkDigest = forkDigest;
     final SchemaDefinitions schemaDefinitions =
         spec.atEpoch(forkInfo.getFork().getEpoch()).getSchemaDefinitions();
-    attestationSchema =
-        spec.atEpoch(forkInfo.getFork().getEpoch())
-            .getSchemaDefinitions()
+    final Optional<SingleAttestationSchema> singleAttestationSchema =
+        schemaDefinitions
             .toVersionElectra()
-            .<AttestationSchema<? extends Attestation>>map(
-                SchemaDefinitionsElectra::getSingleAttestationSchema)
+            .map(SchemaDefinitionsElectra::getSingleAttestationSchema);
+    attestationSchema =
+        singleAttestationSchema
+            .<AttestationSchema<? extends Attestation>>map(schema -> schema)
             .orElse(schemaDefinitions.getAttestationSchema());
+    seenSingleAttestations = singleAttestationSchema.map(SeenSingleAttestations::new);
+    staleAttestationFilter =
+        new StaleAttestationFilter(
+            recentChainData,
+            attestationSchema,
+            metricsSystem.createLabelledCounter(
+                TekuMetricCategory.NETWORK,
+                "gossip_stale_attestations_ignored_total",
+                "Total number of attestations ignored before deserialization because their slot"
+                    + " was too old",
+                "topic"));
     this.debugDataDumper = debugDataDumper;
   }
 
@@ -109,6 +130,8 @@ public class AttestationSubnetSubscriptions extends CommitteeSubnetSubscriptions
         GossipTopicName.getAttestationSubnetTopicName(subnetId),
         attestationSchema,
         subnetId,
+        seenSingleAttestations,
+        staleAttestationFilter,
         debugDataDumper);
   }
 
@@ -233,6 +233,18 @@ public class PeerSubnetSubscriptions {
     return dataColumnSidecarSubnetSubscriptions.getSubscriberCountForSubnet(subnetId);
   }
 
+  int getAttestationSubnetCount() {
+    return attestationSubnetSubscriptions.getSubscriptionSchema().getLength();
+  }
+
+  int getSyncCommitteeSubnetCount() {
+    return syncCommitteeSubnetSubscriptions.getSubscriptionSchema().getLength();
+  }
+
+  int getDataColumnSidecarSubnetCount() {
+    return dataColumnSidecarSubnetSubscriptions.getSubscriptionSchema().getLength();
+  }
+
   public SszBitvector getAttestationSubnetSubscriptions(final NodeId peerId) {
     return attestationSubnetSubscriptions.getSubnetSubscriptions(peerId);
   }
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.subnets;
 
+import java.util.function.IntPredicate;
 import java.util.function.IntUnaryOperator;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
@@ -20,13 +21,37 @@ import tech.pegasys.teku.networking.eth2.peers.PeerScorer;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryPeer;
 import tech.pegasys.teku.networking.p2p.peer.NodeId;
 
-/** Scores peers higher if they are tracking subnets that are not tracked by other peers. */
+/**
+ * Scores peers higher if they are tracking subnets that are not tracked by other peers.
+ *
+ * <p>The score contributed by each subnet only depends on its subscriber count, which is fixed for
+ * a given {@link PeerSubnetSubscriptions}, so it is calculated once per subnet when the scorer is
+ * created. Scoring a peer is then a lookup per subscribed subnet.
+ */
 public class SubnetScorer implements PeerScorer {
   private static final int MAX_SUBNET_SCORE = 1000;
   private final PeerSubnetSubscriptions peerSubnetSubscriptions;
+  private final SubnetScores attestationSubnetScores;
+  private final SubnetScores syncCommitteeSubnetScores;
+  private final SubnetScores dataColumnSidecarSubnetScores;
 
   private SubnetScorer(final PeerSubnetSubscriptions peerSubnetSubscriptions) {
     this.peerSubnetSubscriptions = peerSubnetSubscriptions;
+    this.attestationSubnetScores =
+        SubnetScores.create(
+            peerSubnetSubscriptions.getAttestationSubnetCount(),
+            peerSubnetSubscriptions::isAttestationSubnetRelevant,
+            peerSubnetSubscriptions::getSubscriberCountForAttestationSubnet);
+    this.syncCommitteeSubnetScores =
+        SubnetScores.create(
+            peerSubnetSubscriptions.getSyncCommitteeSubnetCount(),
+            peerSubnetSubscriptions::isSyncCommitteeSubnetRelevant,
+            peerSubnetSubscriptions::getSubscriberCountForSyncCommitteeSubnet);
+    this.dataColumnSidecarSubnetScores =
+        SubnetScores.create(
+            peerSubnetSubscriptions.getDataColumnSidecarSubnetCount(),
+            peerSubnetSubscriptions::isDataColumnSidecarSubnetRelevant,
+            peerSubnetSubscriptions::getSubscriberCountForDataColumnSidecarSubnet);
   }
 
   public static SubnetScorer create(final PeerSubnetSubscriptions peerSubscriptions) {
@@ -41,11 +66,9 @@ public class SubnetScorer implements PeerScorer {
         peerSubnetSubscriptions.getSyncCommitteeSubscriptions(peerId);
     final SszBitvector dataColumnSidecarSubscriptions =
         peerSubnetSubscriptions.getDataColumnSidecarSubnetSubscriptions(peerId);
-    return score(
-        attSubscriptions,
-        syncCommitteeSubscriptions,
-        dataColumnSidecarSubscriptions,
-        this::scoreSubnetForExistingPeer);
+    return attestationSubnetScores.scoreExistingPeer(attSubscriptions)
+        + syncCommitteeSubnetScores.scoreExistingPeer(syncCommitteeSubscriptions)
+        + dataColumnSidecarSubnetScores.scoreExistingPeer(dataColumnSidecarSubscriptions);
   }
 
   @Override
@@ -62,65 +85,61 @@ public class SubnetScorer implements PeerScorer {
       final SszBitvector attSubnetSubscriptions,
       final SszBitvector syncCommitteeSubnetSubscriptions,
       final SszBitvector dataColumnSidecarSubscriptions) {
-    return score(
-        attSubnetSubscriptions,
-        syncCommitteeSubnetSubscriptions,
-        dataColumnSidecarSubscriptions,
-        this::scoreSubnetForCandidatePeer);
-  }
-
-  private int score(
-      final SszBitvector attestationSubnetSubscriptions,
-      final SszBitvector syncCommitteeSubnetSubscriptions,
-      final SszBitvector dataColumnSidecarSubnetSubscriptions,
-      final IntUnaryOperator subscriberCountToScore) {
-    final int attestationSubnetScore =
-        attestationSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isAttestationSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForAttestationSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    final int syncCommitteeSubnetScore =
-        syncCommitteeSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isSyncCommitteeSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForSyncCommitteeSubnet(subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    final int dataColumnSidecarSubnetScore =
-        dataColumnSidecarSubnetSubscriptions
-            .streamAllSetBits()
-            .filter(peerSubnetSubscriptions::isDataColumnSidecarSubnetRelevant)
-            .map(
-                subnetId -> {
-                  int subscriberCount =
-                      peerSubnetSubscriptions.getSubscriberCountForDataColumnSidecarSubnet(
-                          subnetId);
-                  return subscriberCountToScore.applyAsInt(subscriberCount);
-                })
-            .sum();
-
-    return attestationSubnetScore + syncCommitteeSubnetScore + dataColumnSidecarSubnetScore;
+    return attestationSubnetScores.scoreCandidatePeer(attSubnetSubscriptions)
+        + syncCommitteeSubnetScores.scoreCandidatePeer(syncCommitteeSubnetSubscriptions)
+        + dataColumnSidecarSubnetScores.scoreCandidatePeer(dataColumnSidecarSubscriptions);
   }
 
-  private int scoreSubnetForExistingPeer(final int subscriberCount) {
+  private static int scoreSubnetForExistingPeer(final int subscriberCount) {
     // The peer we're scoring is already included in the subscriberCount
     return scoreSubnetForCandidatePeer(Math.max(0, subscriberCount - 1));
   }
 
-  private int scoreSubnetForCandidatePeer(final int numberOfOtherSubscribers) {
+  private static int scoreSubnetForCandidatePeer(final int numberOfOtherSubscribers) {
     final int value = numberOfOtherSubscribers + 1;
     return MAX_SUBNET_SCORE / (value * value);
   }
+
+  /** Per-subnet scores for one subnet type. Irrelevant subnets score zero. */
+  private static class SubnetScores {
+    private final int[] existingPeerScores;
+    private final int[] candidatePeerScores;
+
+    private SubnetScores(final int[] existingPeerScores, final int[] candidatePeerScores) {
+      this.existingPeerScores = existingPeerScores;
+      this.candidatePeerScores = candidatePeerScores;
+    }
+
+    static SubnetScores create(
+        final int subnetCount,
+        final IntPredicate isSubnetRelevant,
+        final IntUnaryOperator subscriberCountForSubnet) {
+      final int[] existingPeerScores = new int[subnetCount];
+      final int[] candidatePeerScores = new int[subnetCount];
+      for (int subnetId = 0; subnetId < subnetCount; subnetId++) {
+        if (isSubnetRelevant.test(subnetId)) {
+          final int subscriberCount = subscriberCountForSubnet.applyAsInt(subnetId);
+          existingPeerScores[subnetId] = scoreSubnetForExistingPeer(subscriberCount);
+          candidatePeerScores[subnetId] = scoreSubnetForCandidatePeer(subscriberCount);
+        }
+      }
+      return new SubnetScores(existingPeerScores, candidatePeerScores);
+    }
+
+    int scoreExistingPeer(final SszBitvector subscriptions) {
+      return score(subscriptions, existingPeerScores);
+    }
+
+    int scoreCandidatePeer(final SszBitvector subscriptions) {
+      return score(subscriptions, candidatePeerScores);
+    }
+
+    private static int score(final SszBitvector subscriptions, final int[] subnetScores) {
+      return subscriptions
+          .streamAllSetBits()
+          .filter(subnetId -> subnetId < subnetScores.length)
+          .map(subnetId -> subnetScores[subnetId])
+          .sum();
+    }
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.nio.ByteOrder;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.SingleAttestationSchema;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+/**
+ * Tracks the (attester index, target epoch) pairs of single attestations that have been accepted
+ * from gossip.
+ *
+ * <p>[IGNORE] There has been no other valid attestation seen on an attestation subnet that has an
+ * identical attestation.data.target.epoch and participating validator index.
+ *
+ * <p>A {@code SingleAttestation} is a fixed size container, so both values are read directly from
+ * the serialized message. This allows duplicates to be ignored before the message is deserialized.
+ */
+public class SeenSingleAttestations {
+  // Attestations are only propagated for the current and previous epoch
+  private static final int EPOCHS_TO_RETAIN = 3;
+
+  private final int sszSize;
+  private final int attesterIndexOffset;
+  private final int targetEpochOffset;
+  private final NavigableMap<Long, LongSet> seenAttesterIndicesByTargetEpoch = new TreeMap<>();
+
+  public SeenSingleAttestations(final SingleAttestationSchema schema) {
+    this.sszSize = schema.getSszFixedPartSize();
+    this.attesterIndexOffset = SszFieldOffsets.getFixedPartOffset(schema, "attester_index");
+    this.targetEpochOffset =
+        SszFieldOffsets.getFixedPartOffset(schema, "data")
+            + SszFieldOffsets.getFixedPartOffset(AttestationData.SSZ_SCHEMA, "target")
+            + SszFieldOffsets.getFixedPartOffset(Checkpoint.SSZ_SCHEMA, "epoch");
+  }
+
+  public synchronized boolean isSeen(final Bytes serializedAttestation) {
+    if (serializedAttestation.size() != sszSize) {
+      // Leave invalid messages to the regular decoding path
+      return false;
+    }
+    final LongSet seenAttesterIndices =
+        seenAttesterIndicesByTargetEpoch.get(
+            serializedAttestation.getLong(targetEpochOffset, ByteOrder.LITTLE_ENDIAN));
+    return seenAttesterIndices != null
+        && seenAttesterIndices.contains(
+            serializedAttestation.getLong(attesterIndexOffset, ByteOrder.LITTLE_ENDIAN));
+  }
+
+  public synchronized void markSeen(final UInt64 attesterIndex, final UInt64 targetEpoch) {
+    seenAttesterIndicesByTargetEpoch
+        .computeIfAbsent(targetEpoch.longValue(), __ -> new LongOpenHashSet())
+        .add(attesterIndex.longValue());
+    final long oldestEpochToRetain =
+        seenAttesterIndicesByTargetEpoch.lastKey() - EPOCHS_TO_RETAIN + 1;
+    seenAttesterIndicesByTargetEpoch.headMap(oldestEpochToRetain).clear();
+  }
+}
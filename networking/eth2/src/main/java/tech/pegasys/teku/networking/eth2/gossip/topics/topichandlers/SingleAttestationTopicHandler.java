@@ -13,11 +13,16 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers;
 
+import io.libp2p.core.pubsub.ValidationResult;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationMilestoneValidator;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.p2p.gossip.PreparedGossipMessage;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
@@ -38,12 +43,26 @@ public class SingleAttestationTopicHandler {
       final String topicName,
       final AttestationSchema<? extends Attestation> attestationSchema,
       final int subnetId,
+      final Optional<SeenSingleAttestations> seenSingleAttestations,
+      final StaleAttestationFilter staleAttestationFilter,
       final DebugDataDumper debugDataDumper) {
     final Spec spec = recentChainData.getSpec();
     final OperationProcessor<Attestation> convertingProcessor =
         (attMessage, arrivalTimestamp) ->
-            operationProcessor.process(
-                ValidatableAttestation.fromNetwork(spec, attMessage, subnetId), arrivalTimestamp);
+            operationProcessor
+                .process(
+                    ValidatableAttestation.fromNetwork(spec, attMessage, subnetId),
+                    arrivalTimestamp)
+                .thenPeek(
+                    result -> {
+                      if (result.isAccept() && attMessage.isSingleAttestation()) {
+                        seenSingleAttestations.ifPresent(
+                            seen ->
+                                seen.markSeen(
+                                    attMessage.getValidatorIndexRequired(),
+                                    attMessage.getData().getTarget().getEpoch()));
+                      }
+                    });
     return new Eth2TopicHandler<>(
         recentChainData,
         asyncRunner,
@@ -57,6 +76,22 @@ public class SingleAttestationTopicHandler {
             message -> spec.computeEpochAtSlot(message.getData().getSlot())),
         attestationSchema.castTypeToAttestationSchema(),
         spec.getNetworkingConfig(),
-        debugDataDumper);
+        debugDataDumper) {
+      @Override
+      public SafeFuture<ValidationResult> handleMessage(final PreparedGossipMessage message) {
+        // Check the decompressed message before deserializing it, stale attestations and most
+        // duplicates can be ignored without building the attestation
+        final Optional<Bytes> serializedAttestation =
+            message.getDecodedMessage().getDecodedMessage();
+        if (serializedAttestation.isPresent()
+            && (staleAttestationFilter.isTooOld(topicName, serializedAttestation.get())
+                || seenSingleAttestations
+                    .map(seen -> seen.isSeen(serializedAttestation.get()))
+                    .orElse(false))) {
+          return SafeFuture.completedFuture(ValidationResult.Ignore);
+        }
+        return super.handleMessage(message);
+      }
+    };
   }
 }
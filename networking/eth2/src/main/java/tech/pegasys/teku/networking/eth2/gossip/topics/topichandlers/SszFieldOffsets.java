@@ -0,0 +1,39 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers;
+
+import tech.pegasys.teku.infrastructure.ssz.schema.SszContainerSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszType;
+
+/** Locates fields within the fixed part of a serialized SSZ container. */
+class SszFieldOffsets {
+
+  private SszFieldOffsets() {}
+
+  /**
+   * @return the offset of the field within the fixed part of the container. Variable size fields
+   *     before it only take up their 4 byte offset in the fixed part.
+   */
+  static int getFixedPartOffset(final SszContainerSchema<?> schema, final String fieldName) {
+    final int fieldIndex = schema.getFieldIndex(fieldName);
+    int offset = 0;
+    for (int i = 0; i < fieldIndex; i++) {
+      final SszSchema<?> childSchema = schema.getChildSchema(i);
+      offset +=
+          childSchema.isFixedSize() ? childSchema.getSszFixedPartSize() : SszType.SSZ_LENGTH_SIZE;
+    }
+    return offset;
+  }
+}
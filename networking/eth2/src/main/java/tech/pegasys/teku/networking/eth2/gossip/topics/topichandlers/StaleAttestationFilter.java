@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers;
+
+import java.nio.ByteOrder;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+/**
+ * Ignores attestations whose slot is too old to be propagated. The slot sits at a fixed offset in
+ * every attestation container, so it is read from the serialized message and stale attestations
+ * are dropped before they are deserialized or queued for validation.
+ *
+ * <p>Depending on the fork, an attestation is ignored when its slot is more than
+ * ATTESTATION_PROPAGATION_SLOT_RANGE slots old, or when its epoch is before the previous epoch.
+ * Only attestations that are too old under both rules are dropped here, with an extra slot of
+ * margin for the clock disparity allowance. Everything else is left to the full validation.
+ */
+public class StaleAttestationFilter {
+  private static final int SLOT_SIZE = Long.BYTES;
+
+  private final RecentChainData recentChainData;
+  private final int slotOffset;
+  private final long maxSlotAge;
+  private final LabelledMetric<Counter> ignoredAttestationCounter;
+
+  public StaleAttestationFilter(
+      final RecentChainData recentChainData,
+      final AttestationSchema<?> attestationSchema,
+      final LabelledMetric<Counter> ignoredAttestationCounter) {
+    this.recentChainData = recentChainData;
+    this.slotOffset =
+        SszFieldOffsets.getFixedPartOffset(attestationSchema, "data")
+            + SszFieldOffsets.getFixedPartOffset(AttestationData.SSZ_SCHEMA, "slot");
+    final Spec spec = recentChainData.getSpec();
+    this.maxSlotAge =
+        Math.max(
+                2L * spec.getGenesisSpecConfig().getSlotsPerEpoch(),
+                spec.getNetworkingConfig().getAttestationPropagationSlotRange() + 1L)
+            + 1;
+    this.ignoredAttestationCounter = ignoredAttestationCounter;
+  }
+
+  public boolean isTooOld(final String topicName, final Bytes serializedAttestation) {
+    if (serializedAttestation.size() < slotOffset + SLOT_SIZE) {
+      // Leave invalid messages to the regular decoding path
+      return false;
+    }
+    final long slot = serializedAttestation.getLong(slotOffset, ByteOrder.LITTLE_ENDIAN);
+    final Optional<UInt64> currentSlot = recentChainData.getCurrentSlot();
+    // a negative value is an unsigned slot far in the future
+    if (slot < 0 || currentSlot.isEmpty() || currentSlot.get().longValue() - slot < maxSlotAge) {
+      return false;
+    }
+    ignoredAttestationCounter.labels(topicName).inc();
+    return true;
+  }
+}
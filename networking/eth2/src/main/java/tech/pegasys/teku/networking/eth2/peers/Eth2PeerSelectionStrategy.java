@@ -18,14 +18,16 @@ import static java.util.Collections.unmodifiableList;
 import static tech.pegasys.teku.networking.p2p.connection.PeerConnectionType.RANDOMLY_SELECTED;
 import static tech.pegasys.teku.networking.p2p.connection.PeerConnectionType.SCORE_BASED;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -125,9 +127,7 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
       final List<DiscoveryPeer> allCandidatePeers) {
     final PeerScorer peerScorer = peerSubnetSubscriptions.createScorer();
     return allCandidatePeers.stream()
-        .sorted(
-            Comparator.comparing((Function<DiscoveryPeer, Integer>) peerScorer::scoreCandidatePeer)
-                .reversed())
+        .sorted(candidatePeerScoreComparator(peerScorer).reversed())
         .flatMap(candidate -> checkCandidate(candidate, network).stream())
         .limit(scoreBasedPeersToAdd)
         .toList();
@@ -212,7 +212,7 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
             Stream.concat(
                 remotelyInitiatedRandomlySelectedPeers.stream(), scoreBasedPeers.stream()))
         .filter(peer -> !peersBeingDropped.contains(peer))
-        .sorted(Comparator.comparing(peerScorer::scoreExistingPeer))
+        .sorted(existingPeerScoreComparator(peerScorer))
         .limit(additionalPeersToDrop)
         .forEach(peersBeingDropped::add);
     LOG.trace(
@@ -245,7 +245,7 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
     return Stream.concat(
             remotelyInitiatedRandomlySelectedPeers.stream(),
             scoreBasedPeers.stream().filter(Peer::connectionInitiatedRemotely))
-        .sorted(Comparator.comparing(peerScorer::scoreExistingPeer))
+        .sorted(existingPeerScoreComparator(peerScorer))
         .limit(remotelyInitiatedPeersToDropCount)
         .toList();
   }
@@ -268,6 +268,24 @@ public class Eth2PeerSelectionStrategy implements PeerSelectionStrategy {
         0, Math.min(randomlySelectedPeersToDrop, locallyInitiatedRandomlySelectedPeers.size()));
   }
 
+  private static Comparator<DiscoveryPeer> candidatePeerScoreComparator(
+      final PeerScorer peerScorer) {
+    return scoreComparator(peerScorer::scoreCandidatePeer);
+  }
+
+  private static Comparator<Peer> existingPeerScoreComparator(final PeerScorer peerScorer) {
+    return scoreComparator(peer -> peerScorer.scoreExistingPeer(peer.getId()));
+  }
+
+  /**
+   * Sorting calls the comparator O(n log n) times, so each peer's score is calculated on first use
+   * and reused for the rest of the sort rather than being recalculated for every comparison.
+   */
+  private static <T> Comparator<T> scoreComparator(final ToIntFunction<T> scorer) {
+    final Object2IntMap<T> scores = new Object2IntOpenHashMap<>();
+    return Comparator.comparingInt(peer -> scores.computeIfAbsent(peer, scorer));
+  }
+
   @FunctionalInterface
   public interface Shuffler {
     void shuffle(List<?> list);
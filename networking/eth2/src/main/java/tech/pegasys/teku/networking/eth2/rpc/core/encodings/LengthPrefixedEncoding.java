@@ -16,6 +16,7 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 import io.netty.buffer.ByteBuf;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor;
@@ -40,10 +41,20 @@ public class LengthPrefixedEncoding implements RpcEncoding {
         public void close() {}
       };
 
+  private static final Counter NOOP_COUNTER =
+      new Counter() {
+        @Override
+        public void inc() {}
+
+        @Override
+        public void inc(final long amount) {}
+      };
+
   private final String name;
   private final RpcPayloadEncoders payloadEncoders;
   private final Compressor compressor;
   private final int maxChunkSize;
+  private final Counter copiedBytesCounter;
 
   @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
   private static <T> RpcByteBufDecoder<T> getEmptyMessageDecoder() {
@@ -55,10 +66,20 @@ public class LengthPrefixedEncoding implements RpcEncoding {
       final RpcPayloadEncoders payloadEncoders,
       final Compressor compressor,
       final int maxChunkSize) {
+    this(name, payloadEncoders, compressor, maxChunkSize, NOOP_COUNTER);
+  }
+
+  LengthPrefixedEncoding(
+      final String name,
+      final RpcPayloadEncoders payloadEncoders,
+      final Compressor compressor,
+      final int maxChunkSize,
+      final Counter copiedBytesCounter) {
     this.name = name;
     this.payloadEncoders = payloadEncoders;
     this.compressor = compressor;
     this.maxChunkSize = maxChunkSize;
+    this.copiedBytesCounter = copiedBytesCounter;
   }
 
   @Override
@@ -82,7 +103,7 @@ public class LengthPrefixedEncoding implements RpcEncoding {
       return getEmptyMessageDecoder();
     } else {
       return new LengthPrefixedPayloadDecoder<>(
-          payloadEncoders.getEncoder(payloadType), compressor, maxChunkSize);
+          payloadEncoders.getEncoder(payloadType), compressor, maxChunkSize, copiedBytesCounter);
     }
   }
 
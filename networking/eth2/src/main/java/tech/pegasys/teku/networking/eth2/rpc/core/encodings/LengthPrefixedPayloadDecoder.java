@@ -17,6 +17,7 @@ import io.libp2p.etc.types.ByteBufExtKt;
 import io.netty.buffer.ByteBuf;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.ChunkTooLongException;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException.DecompressFailedException;
@@ -39,14 +40,17 @@ class LengthPrefixedPayloadDecoder<T> implements RpcByteBufDecoder<T> {
   private boolean decoded = false;
   private boolean disposed = false;
   private final int maxChunkSize;
+  private final Counter copiedBytesCounter;
 
   public LengthPrefixedPayloadDecoder(
       final RpcPayloadEncoder<T> payloadEncoder,
       final Compressor compressor,
-      final int maxChunkSize) {
+      final int maxChunkSize,
+      final Counter copiedBytesCounter) {
     this.payloadEncoder = payloadEncoder;
     this.compressor = compressor;
     this.maxChunkSize = maxChunkSize;
+    this.copiedBytesCounter = copiedBytesCounter;
   }
 
   @Override
@@ -84,13 +88,10 @@ class LengthPrefixedPayloadDecoder<T> implements RpcByteBufDecoder<T> {
       }
 
       if (ret.isPresent()) {
+        final boolean decodedIntoDedicatedArray = decompressor.get().decodesIntoDedicatedArray();
         decompressor = Optional.empty();
         try {
-          // making a copy here since the Bytes.wrapByteBuf(buf).slice(...)
-          // would be broken after [in] buffer is released
-          byte[] arr = new byte[ret.get().readableBytes()];
-          ret.get().readBytes(arr);
-          Bytes bytes = Bytes.wrap(arr);
+          final Bytes bytes = toBytes(ret.get(), decodedIntoDedicatedArray);
           decoded = true;
           return Optional.of(payloadEncoder.decode(bytes));
         } finally {
@@ -134,6 +135,22 @@ class LengthPrefixedPayloadDecoder<T> implements RpcByteBufDecoder<T> {
     decompressor.ifPresent(ByteBufDecoder::close);
   }
 
+  private Bytes toBytes(final ByteBuf buf, final boolean decodedIntoDedicatedArray) {
+    if (decodedIntoDedicatedArray
+        && buf.hasArray()
+        && buf.arrayOffset() == 0
+        && buf.readerIndex() == 0
+        && buf.readableBytes() == buf.array().length) {
+      return Bytes.wrap(buf.array());
+    }
+    // making a copy here since the Bytes.wrapByteBuf(buf).slice(...)
+    // would be broken after [in] buffer is released
+    final byte[] arr = new byte[buf.readableBytes()];
+    buf.readBytes(arr);
+    copiedBytesCounter.inc(arr.length);
+    return Bytes.wrap(arr);
+  }
+
   /** Decode the length-prefix header, which contains the length of the uncompressed payload */
   private Optional<Integer> readLengthPrefixHeader(final ByteBuf in) throws RpcException {
 
@@ -14,6 +14,8 @@
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.ssz.SszData;
 import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor;
@@ -31,6 +33,19 @@ public interface RpcEncoding {
         useAircompressor ? SnappyFramedCompressor.AIRCOMPRESSOR : SnappyFramedCompressor.NETTY);
   }
 
+  static RpcEncoding createSszSnappyEncoding(
+      final int maxChunkSize, final boolean useAircompressor, final MetricsSystem metricsSystem) {
+    return new LengthPrefixedEncoding(
+        "ssz_snappy",
+        RpcPayloadEncoders.createSszEncoders(),
+        useAircompressor ? SnappyFramedCompressor.AIRCOMPRESSOR : SnappyFramedCompressor.NETTY,
+        maxChunkSize,
+        metricsSystem.createCounter(
+            TekuMetricCategory.NETWORK,
+            "rpc_decoded_payload_copied_bytes_total",
+            "Total number of bytes copied after decompression to deserialize rpc payloads"));
+  }
+
   static RpcEncoding createSszSnappyEncoding(final int maxChunkSize, final Compressor compressor) {
     return new LengthPrefixedEncoding(
         "ssz_snappy", RpcPayloadEncoders.createSszEncoders(), compressor, maxChunkSize);
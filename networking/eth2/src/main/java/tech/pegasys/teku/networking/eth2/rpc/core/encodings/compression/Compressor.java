@@ -25,7 +25,17 @@ public interface Compressor {
    *
    * @see ByteBufDecoder
    */
-  interface Decompressor extends ByteBufDecoder<ByteBuf, CompressionException> {}
+  interface Decompressor extends ByteBufDecoder<ByteBuf, CompressionException> {
+
+    /**
+     * Returns true if decoded buffers are backed by a dedicated array holding exactly the decoded
+     * data. Such an array remains valid after the buffer is released, so it can be used directly
+     * instead of being copied out of the buffer.
+     */
+    default boolean decodesIntoDedicatedArray() {
+      return false;
+    }
+  }
 
   /**
    * Returns the compressed data
@@ -49,4 +49,40 @@ public class AircompressorSnappyFrameDecoder extends SnappyFrameDecoder {
       throw new CompressionException("Error in Snappy decompressor", e);
     }
   }
+
+  @Override
+  protected ByteBuf decodeCompressedData(
+      final ByteBuf input,
+      final int compressedLength,
+      final byte[] output,
+      final int outputOffset,
+      final int uncompressedLength)
+      throws CompressionException {
+    // Decompress straight from the input array when it is available, avoiding a copy
+    final byte[] compressedData;
+    final int compressedOffset;
+    if (input.hasArray()) {
+      compressedData = input.array();
+      compressedOffset = input.arrayOffset() + input.readerIndex();
+      input.skipBytes(compressedLength);
+    } else {
+      compressedData = new byte[compressedLength];
+      compressedOffset = 0;
+      input.readBytes(compressedData);
+    }
+
+    try {
+      final int actualUncompressedLength =
+          decompressor.decompress(
+              compressedData,
+              compressedOffset,
+              compressedLength,
+              output,
+              outputOffset,
+              uncompressedLength);
+      return Unpooled.wrappedBuffer(output, outputOffset, actualUncompressedLength);
+    } catch (final MalformedInputException | IllegalArgumentException e) {
+      throw new CompressionException("Error in Snappy decompressor", e);
+    }
+  }
 }
@@ -43,6 +43,25 @@ public class NettySnappyFrameDecoder extends SnappyFrameDecoder {
     }
   }
 
+  @Override
+  protected ByteBuf decodeCompressedData(
+      final ByteBuf input,
+      final int compressedLength,
+      final byte[] output,
+      final int outputOffset,
+      final int uncompressedLength) {
+    final ByteBuf uncompressed =
+        Unpooled.wrappedBuffer(output, outputOffset, uncompressedLength).clear();
+    final int oldWriterIndex = input.writerIndex();
+    try {
+      input.writerIndex(input.readerIndex() + compressedLength);
+      snappy.decode(input, uncompressed);
+    } finally {
+      input.writerIndex(oldWriterIndex);
+    }
+    return uncompressed;
+  }
+
   @Override
   protected void reset() {
     snappy.reset();
@@ -13,13 +13,17 @@
 
 package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
+import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.readUncompressedLength;
 import static tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyUtil.validateChecksum;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.compression.DecompressionException;
+import java.util.Arrays;
 import java.util.Optional;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.AbstractByteBufDecoder;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadLargerThanExpectedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadSmallerThanExpectedException;
 
 /**
@@ -54,6 +58,10 @@ public abstract class SnappyFrameDecoder
 
   private boolean started;
   private boolean corrupted;
+  private boolean decodingIntoArray;
+  private int maxOutputLength;
+  private byte[] output = new byte[0];
+  private int outputOffset;
 
   /**
    * Creates a new snappy-framed decoder with validation of checksums turned on. To turn checksum
@@ -74,6 +82,32 @@ public abstract class SnappyFrameDecoder
     this.validateChecksums = validateChecksums;
   }
 
+  /**
+   * Makes the decoder write all subsequently decoded data into a single array, available from
+   * {@link #getDecodedOutput()}. Returned buffers are then views of that array rather than
+   * separately allocated frames, so the decoded payload doesn't need to be assembled by copying the
+   * frames.
+   *
+   * <p>The array only grows as frames are actually decoded, so a peer declaring a large length
+   * without sending the data can't force a large allocation. Data beyond {@code maxOutputLength}
+   * results in a {@link PayloadLargerThanExpectedException}
+   */
+  public void decodeInto(final int maxOutputLength) {
+    this.decodingIntoArray = true;
+    this.maxOutputLength = maxOutputLength;
+    this.output = new byte[0];
+    this.outputOffset = 0;
+  }
+
+  /**
+   * Returns the array decoded data is written to after {@link #decodeInto(int)}. Its length matches
+   * {@code maxOutputLength} once that much data has been decoded. Buffers returned before the
+   * array grew remain views of the previous array.
+   */
+  public byte[] getDecodedOutput() {
+    return output;
+  }
+
   @Override
   protected Optional<ByteBuf> decodeOneImpl(final ByteBuf in) throws CompressionException {
     if (corrupted) {
@@ -161,7 +195,14 @@ public abstract class SnappyFrameDecoder
           } else {
             in.skipBytes(4);
           }
-          ret = in.readRetainedSlice(chunkLength - 4);
+          if (decodingIntoArray) {
+            ensureOutputCapacity(chunkLength - 4);
+            in.readBytes(output, outputOffset, chunkLength - 4);
+            ret = Unpooled.wrappedBuffer(output, outputOffset, chunkLength - 4);
+            outputOffset += chunkLength - 4;
+          } else {
+            ret = in.readRetainedSlice(chunkLength - 4);
+          }
         }
         case COMPRESSED_DATA -> {
           if (!started) {
@@ -184,7 +225,23 @@ public abstract class SnappyFrameDecoder
           final int checksum = in.readIntLE();
           ByteBuf uncompressed = null;
           try {
-            uncompressed = decodeCompressedData(in, chunkLength - 4);
+            if (decodingIntoArray) {
+              final int uncompressedLength =
+                  readUncompressedLength(in, in.readerIndex(), chunkLength - 4);
+              if (uncompressedLength > MAX_DECOMPRESSED_DATA_SIZE) {
+                throw new CompressionException(
+                    "Received COMPRESSED_DATA that exceeds "
+                        + MAX_DECOMPRESSED_DATA_SIZE
+                        + " bytes after decompression");
+              }
+              ensureOutputCapacity(uncompressedLength);
+              uncompressed =
+                  decodeCompressedData(
+                      in, chunkLength - 4, output, outputOffset, uncompressedLength);
+              outputOffset += uncompressed.readableBytes();
+            } else {
+              uncompressed = decodeCompressedData(in, chunkLength - 4);
+            }
             if (validateChecksums) {
               validateChecksum(checksum, uncompressed, 0, uncompressed.writerIndex());
             }
@@ -211,6 +268,20 @@ public abstract class SnappyFrameDecoder
         "Snappy stream complete, but unprocessed data left: " + dataLeft);
   }
 
+  private void ensureOutputCapacity(final int length) throws PayloadLargerThanExpectedException {
+    if (length > maxOutputLength - outputOffset) {
+      throw new PayloadLargerThanExpectedException(
+          "Decoded snappy frames exceed the expected length of " + maxOutputLength);
+    }
+    final int requiredLength = outputOffset + length;
+    if (requiredLength > output.length) {
+      // Grow geometrically to keep copying amortised, but never past the expected length
+      final int newLength =
+          (int) Math.min(maxOutputLength, Math.max(requiredLength, 2L * output.length));
+      output = Arrays.copyOf(output, newLength);
+    }
+  }
+
   private static void checkByte(final byte actual, final byte expect) throws CompressionException {
     if (actual != expect) {
       throw new CompressionException(
@@ -241,5 +312,13 @@ public abstract class SnappyFrameDecoder
   protected abstract ByteBuf decodeCompressedData(ByteBuf input, int compressedLength)
       throws CompressionException;
 
+  /**
+   * Decodes a raw snappy block of {@code uncompressedLength} bytes (as declared by its preamble)
+   * into {@code output} at {@code outputOffset}, returning a view of the decoded region
+   */
+  protected abstract ByteBuf decodeCompressedData(
+      ByteBuf input, int compressedLength, byte[] output, int outputOffset, int uncompressedLength)
+      throws CompressionException;
+
   protected void reset() {}
 }
@@ -15,9 +15,6 @@ package tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import io.netty.util.ReferenceCounted;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.tuweni.bytes.Bytes;
@@ -52,13 +49,15 @@ public class SnappyFramedCompressor implements Compressor {
     private final SnappyFrameDecoder snappyFrameDecoder;
     private final int uncompressedPayloadSize;
     private int consumedCompressedSize = 0;
-    private final List<ByteBuf> decodedSnappyFrames = new ArrayList<>();
+    private int decodedFramesLength = 0;
     private boolean broken = false;
     private boolean disposed = false;
 
     public SnappyFramedDecompressor(final int uncompressedPayloadSize) {
       this.snappyFrameDecoder = decoderSupplier.get();
       this.uncompressedPayloadSize = uncompressedPayloadSize;
+      // Frames are decoded into a single array which grows as data actually arrives
+      snappyFrameDecoder.decodeInto(uncompressedPayloadSize);
     }
 
     @Override
@@ -77,10 +76,16 @@ public class SnappyFramedCompressor implements Compressor {
             int beforeReadableBytes = input.readableBytes();
             byteBuf = snappyFrameDecoder.decodeOneMessage(input);
             consumedCompressedSize += beforeReadableBytes - input.readableBytes();
+          } catch (PayloadLargerThanExpectedException e) {
+            throw e;
           } catch (Exception e) {
             throw new CompressionException("Error in Snappy decompressor", e);
           }
-          byteBuf.ifPresent(decodedSnappyFrames::add);
+          if (byteBuf.isPresent()) {
+            // the frame is a view of the decoder's output array, so only its length is needed
+            decodedFramesLength += byteBuf.get().readableBytes();
+            byteBuf.get().release();
+          }
 
           if (consumedCompressedSize > getMaxCompressedLength(uncompressedPayloadSize)) {
             throw new CompressionException(
@@ -92,20 +97,11 @@ public class SnappyFramedCompressor implements Compressor {
           if (byteBuf.isEmpty()) {
             break;
           }
-          int decodedFramesLength =
-              decodedSnappyFrames.stream().mapToInt(ByteBuf::readableBytes).sum();
           if (decodedFramesLength == uncompressedPayloadSize) {
-            // wrapped ByteBuf takes ownership of the underlying buffers
-            ByteBuf ret = Unpooled.wrappedBuffer(decodedSnappyFrames.toArray(new ByteBuf[0]));
-            decodedSnappyFrames.clear();
+            final ByteBuf ret = Unpooled.wrappedBuffer(snappyFrameDecoder.getDecodedOutput());
+            decodedFramesLength = 0;
             snappyFrameDecoder.complete();
             return Optional.of(ret);
-          } else if (decodedFramesLength > uncompressedPayloadSize) {
-            throw new PayloadLargerThanExpectedException(
-                "Decoded snappy frames len is "
-                    + decodedFramesLength
-                    + " while expecting "
-                    + uncompressedPayloadSize);
           }
         } catch (Exception e) {
           broken = true;
@@ -116,6 +112,11 @@ public class SnappyFramedCompressor implements Compressor {
       return Optional.empty();
     }
 
+    @Override
+    public boolean decodesIntoDedicatedArray() {
+      return true;
+    }
+
     @Override
     public void complete() throws CompressionException {
       try {
@@ -126,7 +127,7 @@ public class SnappyFramedCompressor implements Compressor {
           throw new DisposedDecompressorException();
         }
         disposed = true;
-        boolean unreturnedFrames = !decodedSnappyFrames.isEmpty();
+        boolean unreturnedFrames = decodedFramesLength > 0;
         if (unreturnedFrames) {
           throw new PayloadSmallerThanExpectedException("Unread uncompressed frames on complete");
         }
@@ -137,8 +138,6 @@ public class SnappyFramedCompressor implements Compressor {
 
     @Override
     public void close() {
-      decodedSnappyFrames.forEach(ReferenceCounted::release);
-      decodedSnappyFrames.clear();
       snappyFrameDecoder.close();
     }
   }
@@ -39,6 +39,25 @@ class SnappyUtil {
     return (checksum >>> 15 | checksum << 17) + 0xa282ead8;
   }
 
+  /**
+   * Reads the varint preamble of a raw snappy block, which holds the length of the uncompressed
+   * data
+   */
+  static int readUncompressedLength(final ByteBuf data, final int offset, final int length) {
+    int result = 0;
+    for (int i = 0; i < Math.min(length, 5); i++) {
+      final int b = data.getUnsignedByte(offset + i);
+      result |= (b & 0x7f) << (7 * i);
+      if ((b & 0x80) == 0) {
+        if (result < 0) {
+          break;
+        }
+        return result;
+      }
+    }
+    throw new DecompressionException("Invalid snappy uncompressed length preamble");
+  }
+
   static void validateChecksum(
       final int expectedChecksum, final ByteBuf data, final int offset, final int length) {
     final int actualChecksum = calculateChecksum(data, offset, length);
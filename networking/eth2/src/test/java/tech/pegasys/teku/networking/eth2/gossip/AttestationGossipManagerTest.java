@@ -88,6 +88,7 @@ public class AttestationGossipManagerTest {
         new AttestationSubnetSubscriptions(
             spec,
             asyncRunner,
+            metricsSystem,
             gossipNetwork,
             gossipEncoding,
             recentChainData,
@@ -70,6 +70,7 @@ class GossipForkSubscriptionsCapellaTest {
         fork,
         spec,
         new StubAsyncRunner(),
+        new StubAsyncRunner(),
         new StubMetricsSystem(),
         discoveryNetwork,
         recentChainData,
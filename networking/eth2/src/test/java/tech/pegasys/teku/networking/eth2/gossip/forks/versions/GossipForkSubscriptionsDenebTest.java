@@ -13,20 +13,29 @@
 
 package tech.pegasys.teku.networking.eth2.gossip.forks.versions;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.AggregateGossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.BlobSidecarGossipManager;
+import tech.pegasys.teku.networking.eth2.gossip.BlockGossipManager;
+import tech.pegasys.teku.networking.eth2.gossip.GossipManager;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.p2p.discovery.DiscoveryNetwork;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -36,18 +45,24 @@ import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.statetransition.util.DebugDataDumper;
 import tech.pegasys.teku.storage.client.MemoryOnlyRecentChainData;
 import tech.pegasys.teku.storage.client.RecentChainData;
+import tech.pegasys.teku.storage.storageSystem.InMemoryStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
 
 public class GossipForkSubscriptionsDenebTest {
 
   private final Spec spec = TestSpecFactory.createMainnetDeneb();
   private final Fork fork = spec.getForkSchedule().getFork(UInt64.ZERO);
   private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubAsyncRunner priorityAsyncRunner = new StubAsyncRunner();
 
   @Test
   public void shouldAddBlobSidecarGossipManager() {
 
     final GossipForkSubscriptionsDeneb gossipForkSubscriptions =
-        spy(createGossipForkSubscriptionDeneb());
+        spy(
+            createGossipForkSubscriptionDeneb(
+                MemoryOnlyRecentChainData.create(spec), mock(GossipEncoding.class)));
 
     gossipForkSubscriptions.addGossipManagers(forkInfo(), forkDigest());
 
@@ -55,6 +70,52 @@ public class GossipForkSubscriptionsDenebTest {
     verify(gossipForkSubscriptions, times(1)).addGossipManager(any(BlobSidecarGossipManager.class));
   }
 
+  @Test
+  public void shouldProcessBlocksOnPriorityRunner() {
+    final StorageSystem storageSystem = InMemoryStorageSystemBuilder.buildDefault(spec);
+    storageSystem.chainUpdater().initializeGenesis();
+    final RecentChainData recentChainData = storageSystem.recentChainData();
+    final GossipEncoding gossipEncoding = GossipEncoding.SSZ_SNAPPY;
+    final GossipForkSubscriptionsDeneb gossipForkSubscriptions =
+        spy(createGossipForkSubscriptionDeneb(recentChainData, gossipEncoding));
+
+    gossipForkSubscriptions.addGossipManagers(
+        recentChainData.getForkInfo(UInt64.ZERO).orElseThrow(),
+        recentChainData.getForkDigest(UInt64.ZERO));
+    final ArgumentCaptor<GossipManager> gossipManagers =
+        ArgumentCaptor.forClass(GossipManager.class);
+    verify(gossipForkSubscriptions, atLeastOnce()).addGossipManager(gossipManagers.capture());
+
+    final Eth2TopicHandler<?> blockTopicHandler =
+        findGossipManager(gossipManagers.getAllValues(), BlockGossipManager.class)
+            .getTopicHandler();
+    blockTopicHandler.handleMessage(
+        blockTopicHandler.prepareMessage(
+            gossipEncoding.encode(dataStructureUtil.randomSignedBeaconBlock(1)),
+            Optional.empty()));
+    assertThat(priorityAsyncRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(asyncRunner.countDelayedActions()).isZero();
+
+    final Eth2TopicHandler<?> aggregateTopicHandler =
+        findGossipManager(gossipManagers.getAllValues(), AggregateGossipManager.class)
+            .getTopicHandler();
+    aggregateTopicHandler.handleMessage(
+        aggregateTopicHandler.prepareMessage(
+            gossipEncoding.encode(dataStructureUtil.randomSignedAggregateAndProof(1)),
+            Optional.empty()));
+    assertThat(priorityAsyncRunner.countDelayedActions()).isEqualTo(1);
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(1);
+  }
+
+  private <T extends GossipManager> T findGossipManager(
+      final List<GossipManager> gossipManagers, final Class<T> type) {
+    return gossipManagers.stream()
+        .filter(type::isInstance)
+        .map(type::cast)
+        .findFirst()
+        .orElseThrow();
+  }
+
   private ForkInfo forkInfo() {
     return new ForkInfo(fork, dataStructureUtil.randomBytes32());
   }
@@ -64,16 +125,16 @@ public class GossipForkSubscriptionsDenebTest {
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
-  private GossipForkSubscriptionsDeneb createGossipForkSubscriptionDeneb() {
+  private GossipForkSubscriptionsDeneb createGossipForkSubscriptionDeneb(
+      final RecentChainData recentChainData, final GossipEncoding gossipEncoding) {
     final DiscoveryNetwork discoveryNetwork = mock(DiscoveryNetwork.class);
-    final RecentChainData recentChainData = MemoryOnlyRecentChainData.create(spec);
-    final GossipEncoding gossipEncoding = mock(GossipEncoding.class);
     final OperationProcessor noopOperationProcessor = OperationProcessor.NOOP;
 
     return new GossipForkSubscriptionsDeneb(
         fork,
         spec,
-        new StubAsyncRunner(),
+        asyncRunner,
+        priorityAsyncRunner,
         new StubMetricsSystem(),
         discoveryNetwork,
         recentChainData,
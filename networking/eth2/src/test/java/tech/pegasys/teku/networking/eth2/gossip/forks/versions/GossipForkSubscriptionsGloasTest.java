@@ -81,6 +81,7 @@ public class GossipForkSubscriptionsGloasTest {
         fork,
         spec,
         new StubAsyncRunner(),
+        new StubAsyncRunner(),
         new StubMetricsSystem(),
         discoveryNetwork,
         recentChainData,
@@ -29,6 +29,7 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.networking.eth2.gossip.encoding.GossipEncoding;
 import tech.pegasys.teku.networking.eth2.gossip.topics.OperationProcessor;
 import tech.pegasys.teku.networking.p2p.gossip.GossipNetwork;
@@ -65,6 +66,7 @@ public class AttestationSubnetSubscriptionsTest {
         new AttestationSubnetSubscriptions(
             spec,
             asyncRunner,
+            new StubMetricsSystem(),
             gossipNetwork,
             gossipEncoding,
             recentChainData,
@@ -160,6 +162,7 @@ public class AttestationSubnetSubscriptionsTest {
         new AttestationSubnetSubscriptions(
             spec,
             asyncRunner,
+            new StubMetricsSystem(),
             gossipNetwork,
             gossipEncoding,
             recentChainData,
@@ -0,0 +1,128 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SeenSingleAttestations;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+import tech.pegasys.teku.spec.datastructures.operations.SingleAttestation;
+import tech.pegasys.teku.spec.datastructures.operations.SingleAttestationSchema;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class SeenSingleAttestationsTest {
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SingleAttestationSchema schema =
+      spec.getGenesisSchemaDefinitions()
+          .toVersionElectra()
+          .orElseThrow()
+          .getSingleAttestationSchema();
+
+  private final SeenSingleAttestations seenSingleAttestations = new SeenSingleAttestations(schema);
+
+  @Test
+  void isSeen_shouldReadAttesterIndexAndTargetEpochFromSerializedAttestation() {
+    final SingleAttestation attestation = dataStructureUtil.randomSingleAttestation();
+    assertThat(seenSingleAttestations.isSeen(attestation.sszSerialize())).isFalse();
+
+    markSeen(attestation);
+
+    assertThat(seenSingleAttestations.isSeen(attestation.sszSerialize())).isTrue();
+  }
+
+  @Test
+  void isSeen_shouldMatchDifferentAttestationsWithSameAttesterAndTargetEpoch() {
+    final SingleAttestation attestation = dataStructureUtil.randomSingleAttestation();
+    final SingleAttestation otherVote =
+        schema.create(
+            dataStructureUtil.randomUInt64(),
+            attestation.getValidatorIndexRequired(),
+            createAttestationData(
+                attestation.getData().getSlot(), attestation.getData().getTarget()),
+            dataStructureUtil.randomSignature());
+    markSeen(attestation);
+
+    assertThat(seenSingleAttestations.isSeen(otherVote.sszSerialize())).isTrue();
+  }
+
+  @Test
+  void isSeen_shouldNotMatchOtherAttesterOrTargetEpoch() {
+    final SingleAttestation attestation = dataStructureUtil.randomSingleAttestation();
+    markSeen(attestation);
+
+    assertThat(
+            seenSingleAttestations.isSeen(
+                dataStructureUtil.randomSingleAttestation().sszSerialize()))
+        .isFalse();
+  }
+
+  @Test
+  void isSeen_shouldIgnoreMessagesWithUnexpectedSize() {
+    final SingleAttestation attestation = dataStructureUtil.randomSingleAttestation();
+    markSeen(attestation);
+
+    final Bytes serialized = attestation.sszSerialize();
+    assertThat(seenSingleAttestations.isSeen(serialized.slice(0, serialized.size() - 1)))
+        .isFalse();
+    assertThat(seenSingleAttestations.isSeen(Bytes.EMPTY)).isFalse();
+  }
+
+  @Test
+  void markSeen_shouldPruneOldTargetEpochs() {
+    final UInt64 attesterIndex = UInt64.valueOf(5);
+    seenSingleAttestations.markSeen(attesterIndex, UInt64.valueOf(10));
+    seenSingleAttestations.markSeen(attesterIndex, UInt64.valueOf(12));
+
+    assertThat(seenSingleAttestations.isSeen(serialize(attesterIndex, 10))).isTrue();
+
+    seenSingleAttestations.markSeen(attesterIndex, UInt64.valueOf(13));
+
+    assertThat(seenSingleAttestations.isSeen(serialize(attesterIndex, 10))).isFalse();
+    assertThat(seenSingleAttestations.isSeen(serialize(attesterIndex, 12))).isTrue();
+    assertThat(seenSingleAttestations.isSeen(serialize(attesterIndex, 13))).isTrue();
+  }
+
+  private void markSeen(final SingleAttestation attestation) {
+    seenSingleAttestations.markSeen(
+        attestation.getValidatorIndexRequired(), attestation.getData().getTarget().getEpoch());
+  }
+
+  private Bytes serialize(final UInt64 attesterIndex, final long targetEpoch) {
+    final UInt64 slot = spec.computeStartSlotAtEpoch(UInt64.valueOf(targetEpoch));
+    return schema
+        .create(
+            UInt64.ZERO,
+            attesterIndex,
+            createAttestationData(
+                slot, dataStructureUtil.randomCheckpoint(UInt64.valueOf(targetEpoch))),
+            dataStructureUtil.randomSignature())
+        .sszSerialize();
+  }
+
+  private AttestationData createAttestationData(final UInt64 slot, final Checkpoint target) {
+    return new AttestationData(
+        slot,
+        UInt64.ZERO,
+        dataStructureUtil.randomBytes32(),
+        dataStructureUtil.randomCheckpoint(),
+        target);
+  }
+}
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.gossip.topics;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -25,8 +26,11 @@ import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSKeyGenerator;
 import tech.pegasys.teku.bls.BLSKeyPair;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.Eth2TopicHandler;
 import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.SingleAttestationTopicHandler;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.StaleAttestationFilter;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.generator.AttestationGenerator;
@@ -37,7 +41,10 @@ public class SingleAttestationTopicHandlerTest
     extends AbstractTopicHandlerTest<ValidatableAttestation> {
 
   private static final int SUBNET_ID = 1;
+  // max(2 * SLOTS_PER_EPOCH, ATTESTATION_PROPAGATION_SLOT_RANGE + 1) + 1 for the minimal preset
+  private static final int STALE_ATTESTATION_AGE = 34;
   private final List<BLSKeyPair> validatorKeys = BLSKeyGenerator.generateKeyPairs(12);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
 
   @Override
   protected Eth2TopicHandler<?> createHandler() {
@@ -51,6 +58,12 @@ public class SingleAttestationTopicHandlerTest
         GossipTopicName.getAttestationSubnetTopicName(SUBNET_ID),
         spec.getGenesisSchemaDefinitions().getAttestationSchema(),
         SUBNET_ID,
+        Optional.empty(),
+        new StaleAttestationFilter(
+            recentChainData,
+            spec.getGenesisSchemaDefinitions().getAttestationSchema(),
+            metricsSystem.createLabelledCounter(
+                TekuMetricCategory.NETWORK, "stale_attestations", "Stale attestations", "topic")),
         DebugDataDumper.NOOP);
   }
 
@@ -105,6 +118,54 @@ public class SingleAttestationTopicHandlerTest
     assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
   }
 
+  @Test
+  public void handleMessage_ignoreStaleAttestationWithoutProcessing() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final ValidatableAttestation attestation =
+        ValidatableAttestation.fromNetwork(
+            spec, attestationGenerator.validAttestation(blockAndState), SUBNET_ID);
+    storageSystem
+        .chainUpdater()
+        .setCurrentSlot(attestation.getData().getSlot().plus(STALE_ATTESTATION_AGE));
+    final Bytes serialized = gossipEncoding.encode(attestation.getAttestation());
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized, Optional.empty()));
+
+    assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    verifyNoInteractions(processor);
+    assertThat(
+            metricsSystem.getLabelledCounterValue(
+                TekuMetricCategory.NETWORK,
+                "stale_attestations",
+                GossipTopicName.getAttestationSubnetTopicName(SUBNET_ID)))
+        .isEqualTo(1);
+  }
+
+  @Test
+  public void handleMessage_processAttestationJustInsideStaleAge() {
+    final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
+    final StateAndBlockSummary blockAndState = getChainHead();
+    final ValidatableAttestation attestation =
+        ValidatableAttestation.fromNetwork(
+            spec, attestationGenerator.validAttestation(blockAndState), SUBNET_ID);
+    storageSystem
+        .chainUpdater()
+        .setCurrentSlot(attestation.getData().getSlot().plus(STALE_ATTESTATION_AGE - 1));
+    when(processor.process(attestation, Optional.empty()))
+        .thenReturn(SafeFuture.completedFuture(InternalValidationResult.IGNORE));
+    final Bytes serialized = gossipEncoding.encode(attestation.getAttestation());
+
+    final SafeFuture<ValidationResult> result =
+        topicHandler.handleMessage(topicHandler.prepareMessage(serialized, Optional.empty()));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(ValidationResult.Ignore);
+    verify(processor).process(attestation, Optional.empty());
+  }
+
   @Test
   public void handleMessage_saveForFuture() {
     final AttestationGenerator attestationGenerator = new AttestationGenerator(spec, validatorKeys);
@@ -0,0 +1,97 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.gossip.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.networking.eth2.gossip.topics.topichandlers.StaleAttestationFilter;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.client.RecentChainData;
+
+class StaleAttestationFilterTest {
+  private static final String TOPIC = "beacon_attestation_3";
+  // max(2 * SLOTS_PER_EPOCH, ATTESTATION_PROPAGATION_SLOT_RANGE + 1) + 1 for the minimal preset
+  private static final int STALE_ATTESTATION_AGE = 34;
+  private static final UInt64 CURRENT_SLOT = UInt64.valueOf(100);
+
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final RecentChainData recentChainData = mock(RecentChainData.class);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+
+  private final StaleAttestationFilter filter;
+
+  StaleAttestationFilterTest() {
+    when(recentChainData.getSpec()).thenReturn(spec);
+    when(recentChainData.getCurrentSlot()).thenReturn(Optional.of(CURRENT_SLOT));
+    filter =
+        new StaleAttestationFilter(
+            recentChainData,
+            spec.getGenesisSchemaDefinitions()
+                .toVersionElectra()
+                .orElseThrow()
+                .getSingleAttestationSchema(),
+            metricsSystem.createLabelledCounter(
+                TekuMetricCategory.NETWORK, "stale_attestations", "Stale attestations", "topic"));
+  }
+
+  @Test
+  void isTooOld_shouldReadSlotFromSerializedSingleAttestation() {
+    final Bytes stale =
+        dataStructureUtil
+            .randomSingleAttestation(CURRENT_SLOT.minus(STALE_ATTESTATION_AGE))
+            .sszSerialize();
+    final Bytes recent =
+        dataStructureUtil
+            .randomSingleAttestation(CURRENT_SLOT.minus(STALE_ATTESTATION_AGE - 1))
+            .sszSerialize();
+
+    assertThat(filter.isTooOld(TOPIC, stale)).isTrue();
+    assertThat(filter.isTooOld(TOPIC, recent)).isFalse();
+    assertThat(
+            metricsSystem.getLabelledCounterValue(
+                TekuMetricCategory.NETWORK, "stale_attestations", TOPIC))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void isTooOld_shouldNotIgnoreFutureSlots() {
+    final Bytes future = dataStructureUtil.randomSingleAttestation(UInt64.MAX_VALUE).sszSerialize();
+
+    assertThat(filter.isTooOld(TOPIC, future)).isFalse();
+  }
+
+  @Test
+  void isTooOld_shouldLeaveTruncatedMessagesToDecoding() {
+    assertThat(filter.isTooOld(TOPIC, Bytes.fromHexString("0x3456"))).isFalse();
+  }
+
+  @Test
+  void isTooOld_shouldNotIgnoreBeforeCurrentSlotIsKnown() {
+    when(recentChainData.getCurrentSlot()).thenReturn(Optional.empty());
+    final Bytes attestation = dataStructureUtil.randomSingleAttestation(UInt64.ZERO).sszSerialize();
+
+    assertThat(filter.isTooOld(TOPIC, attestation)).isFalse();
+  }
+}
@@ -28,7 +28,10 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.core.RpcException;
@@ -355,6 +358,38 @@ class LengthPrefixedEncodingTest {
     }
   }
 
+  @ParameterizedTest(name = "useAircompressor={0}")
+  @ValueSource(booleans = {false, true})
+  public void decodePayload_shouldNotCopyDecompressedPayload(final boolean useAircompressor)
+      throws RpcException {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final RpcEncoding encoding =
+        RpcEncoding.createSszSnappyEncoding(
+            spec.getNetworkingConfig().getMaxPayloadSize(), useAircompressor, metricsSystem);
+    final StatusMessagePhase0 originalMessage = StatusMessagePhase0.createPreGenesisStatus(spec);
+    final Bytes encoded = encoding.encodePayload(originalMessage);
+    List<List<ByteBuf>> testByteBufSlices = Utils.generateTestSlices(encoded);
+
+    for (List<ByteBuf> bufSlices : testByteBufSlices) {
+      RpcByteBufDecoder<StatusMessagePhase0> decoder = encoding.createDecoder(statusMessageSchema);
+      Optional<StatusMessagePhase0> result = Optional.empty();
+      for (ByteBuf bufSlice : bufSlices) {
+        final Optional<StatusMessagePhase0> maybeMessage = decoder.decodeOneMessage(bufSlice);
+        if (maybeMessage.isPresent()) {
+          result = maybeMessage;
+        }
+        bufSlice.release();
+      }
+      decoder.complete();
+      assertThat(result).contains(originalMessage);
+      assertThat(bufSlices).allMatch(b -> b.refCnt() == 0);
+    }
+    assertThat(
+            metricsSystem.getCounterValue(
+                TekuMetricCategory.NETWORK, "rpc_decoded_payload_copied_bytes_total"))
+        .isZero();
+  }
+
   private Bytes createValidStatusMessage(final RpcEncoding encoding) {
     return encoding.encodePayload(
         new StatusMessagePhase0(
@@ -28,7 +28,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import tech.pegasys.teku.networking.eth2.rpc.Utils;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.Compressor.Decompressor;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.CompressionException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadLargerThanExpectedException;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.exceptions.PayloadSmallerThanExpectedException;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.AircompressorSnappyFrameDecoder;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.NettySnappyFrameDecoder;
+import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyFrameDecoder;
 import tech.pegasys.teku.networking.eth2.rpc.core.encodings.compression.snappy.SnappyFramedCompressor;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -42,6 +46,8 @@ public class SnappyCompressorTest {
   // The static snappy header taken from the Snappy library
   // see:
   // https://github.com/xerial/snappy-java/blob/de99182a82516c60d29813820926003b2543faf5/src/main/java/org/xerial/snappy/SnappyFramed.java#L121
+  // Largest length prefix a peer may declare for a single chunk (MAX_PAYLOAD_SIZE)
+  private static final int MAX_CHUNK_SIZE = 10 * 1024 * 1024;
   private static final Bytes SNAPPY_HEADER =
       Bytes.wrap(new byte[] {(byte) 0xff, 0x06, 0x00, 0x00, 0x73, 0x4e, 0x61, 0x50, 0x70, 0x59});
 
@@ -166,6 +172,69 @@ public class SnappyCompressorTest {
         .isInstanceOf(PayloadSmallerThanExpectedException.class);
   }
 
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("compressors")
+  public void uncompress_truncatedPayloadWithMaxDeclaredLength(
+      final String name, final Compressor compressor) throws Exception {
+    final Bytes serializedState = dataStructureUtil.randomBeaconState().sszSerialize();
+    final Bytes compressed = compressor.compress(serializedState);
+    // Check assumptions
+    assertThat(serializedState.size()).isGreaterThan(MAX_FRAME_CONTENT_SIZE);
+    // Stream identifier, the complete first frame and a single byte of the second one
+    final int firstFrameLength =
+        Utils.toByteBuf(compressed).getUnsignedMediumLE(SNAPPY_HEADER.size() + 1);
+    final Bytes truncated = compressed.slice(0, SNAPPY_HEADER.size() + 4 + firstFrameLength + 1);
+
+    final SnappyFrameDecoder frameDecoder =
+        name.equals("netty")
+            ? new NettySnappyFrameDecoder()
+            : new AircompressorSnappyFrameDecoder();
+    frameDecoder.decodeInto(MAX_CHUNK_SIZE);
+    final ByteBuf firstFrame =
+        frameDecoder.decodeOneMessage(Utils.toByteBuf(truncated)).orElseThrow();
+    // Only the data actually decoded is allocated, not the declared length
+    assertThat(frameDecoder.getDecodedOutput()).hasSize(firstFrame.readableBytes());
+    firstFrame.release();
+    frameDecoder.close();
+
+    final Decompressor decompressor = compressor.createDecompressor(MAX_CHUNK_SIZE);
+    assertThat(decompressor.decodeOneMessage(Utils.toByteBuf(truncated))).isEmpty();
+    assertThatThrownBy(decompressor::complete)
+        .isInstanceOf(PayloadSmallerThanExpectedException.class);
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("compressors")
+  public void uncompress_payloadLargerThanExpected(final String name, final Compressor compressor) {
+    final BeaconState state = dataStructureUtil.randomBeaconState(0);
+    final Bytes serializedState = state.sszSerialize();
+    final Bytes compressed = compressor.compress(serializedState);
+
+    List<List<ByteBuf>> testSlices = Utils.generateTestSlices(compressed);
+
+    for (List<ByteBuf> testSlice : testSlices) {
+      Decompressor decompressor = compressor.createDecompressor(serializedState.size() - 1);
+
+      boolean exceptionCaught = false;
+      for (ByteBuf byteBuf : testSlice) {
+        if (!exceptionCaught) {
+          try {
+            decompressor.decodeOneMessage(byteBuf);
+          } catch (PayloadLargerThanExpectedException e) {
+            exceptionCaught = true;
+          } catch (CompressionException e) {
+            // any other failure is unexpected
+            throw new AssertionError(e);
+          }
+        }
+        byteBuf.release();
+      }
+
+      assertThat(exceptionCaught).isTrue();
+      assertThat(testSlice).allSatisfy(b -> assertThat(b.refCnt()).isEqualTo(0));
+    }
+  }
+
   @ParameterizedTest(name = "{0}")
   @MethodSource("compressors")
   public void uncompress_maliciousBytes(final String name, final Compressor compressor) {
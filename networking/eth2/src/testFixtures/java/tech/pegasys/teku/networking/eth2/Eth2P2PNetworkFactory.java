@@ -481,6 +481,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -497,6 +498,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -515,6 +517,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -533,6 +536,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -552,6 +556,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -572,6 +577,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -594,6 +600,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -619,6 +626,7 @@ public class Eth2P2PNetworkFactory {
                 forkAndSpecMilestone.getFork(),
                 spec,
                 asyncRunner,
+                asyncRunner,
                 metricsSystem,
                 network,
                 recentChainData,
@@ -345,6 +345,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected volatile SlotEventsChannel slotEventsChannelPublisher;
   protected volatile ReceivedBlockEventsChannel receivedBlockEventsChannelPublisher;
   protected volatile AsyncRunner networkAsyncRunner;
+  protected volatile AsyncRunner networkPriorityAsyncRunner;
   protected volatile Optional<AsyncRunner> executionProofAsyncRunner;
   protected volatile AsyncRunnerFactory asyncRunnerFactory;
   protected volatile AsyncRunner eventAsyncRunner;
@@ -464,6 +465,10 @@ public class BeaconChainController extends Service implements BeaconChainControl
             "p2p",
             eth2NetworkConfig.getAsyncP2pMaxThreads(),
             eth2NetworkConfig.getAsyncP2pMaxQueue());
+    // blocks and their sidecars are processed separately so they are not delayed by a backlog of
+    // attestations waiting in the p2p queue. Block and sidecar volume is small, so this runner has
+    // its own fixed size rather than adding to the configured p2p thread and queue limits
+    this.networkPriorityAsyncRunner = serviceConfig.createAsyncRunner("p2p_priority", 4, 10_000);
     this.executionProofAsyncRunner =
         beaconConfig.zkChainConfiguration().statelessValidationEnabled()
             ? Optional.ofNullable(serviceConfig.createAsyncRunner("executionproof", 1))
@@ -2140,6 +2145,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .metricsSystem(metricsSystem)
             .timeProvider(timeProvider)
             .asyncRunner(networkAsyncRunner)
+            .priorityAsyncRunner(networkPriorityAsyncRunner)
             .keyValueStore(keyValueStore)
             .requiredCheckpoint(weakSubjectivityValidator.getWSCheckpoint())
             .specProvider(spec)
@@ -59,6 +59,7 @@ public class SlotProcessor {
   private volatile UInt64 onTickSlotAttestation;
   private volatile UInt64 onTickSlotPayloadAttestation;
   private volatile UInt64 onTickEpochPrecompute;
+  private volatile UInt64 onTickFutureBlockProductionStatePrecompute;
   private volatile UInt64 onTickFutureBlockProductionPreparation;
 
   @VisibleForTesting
@@ -170,6 +171,13 @@ public class SlotProcessor {
       performanceRecord.ifPresent(TickProcessingPerformance::precomputeEpochComplete);
     }
 
+    if (isFutureBlockProductionStatePrecomputationDue(
+        calculatedSlot, currentTimeMillis, genesisTimeMillis)) {
+      onTickFutureBlockProductionStatePrecompute = calculatedSlot;
+      futureBlockProductionPreparationTrigger.onFutureBlockProductionStatePrecomputationDue(
+          calculatedSlot);
+    }
+
     if (isFutureBlockProductionPreparationDue(
         calculatedSlot, currentTimeMillis, genesisTimeMillis)) {
       onTickFutureBlockProductionPreparation = calculatedSlot;
@@ -291,6 +299,19 @@ public class SlotProcessor {
     return spec.isTimeReached(currentTimeMillis, earliestTimeInMillis);
   }
 
+  // Precompute the next slot's block production state 2/3 of the way through the current slot
+  boolean isFutureBlockProductionStatePrecomputationDue(
+      final UInt64 calculatedSlot, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
+    if (!isProcessingDueForSlot(calculatedSlot, onTickFutureBlockProductionStatePrecompute)) {
+      return false;
+    }
+    final UInt64 nextSlot = calculatedSlot.increment();
+    final UInt64 earliestTimeInMillis =
+        spec.computeTimeMillisAtSlot(nextSlot, genesisTimeMillis)
+            .minusMinZero(spec.getAttestationDueMillis(nextSlot));
+    return spec.isTimeReached(currentTimeMillis, earliestTimeInMillis);
+  }
+
   boolean isFutureBlockProductionPreparationDue(
       final UInt64 calculatedSlot, final UInt64 currentTimeMillis, final UInt64 genesisTimeMillis) {
     if (!isProcessingDueForSlot(calculatedSlot, onTickFutureBlockProductionPreparation)) {
@@ -361,6 +361,10 @@ public class SlotProcessorTest {
     // Attestation due
     slotProcessor.onTick(genesisTimeMillis.plus(oneThirdMillis(millisPerSlot)), Optional.empty());
     verify(forkChoiceTrigger).onAttestationsDueForSlot(ZERO);
+    // Block production state precomputation due
+    slotProcessor.onTick(
+        genesisTimeMillis.plus(millisPerSlot - oneThirdMillis(millisPerSlot)), Optional.empty());
+    verify(blockProductionPreparationTrigger).onFutureBlockProductionStatePrecomputationDue(ZERO);
     // Block preparation due
     slotProcessor.onTick(
         genesisTimeMillis.plus(millisPerSlot - BLOCK_CREATION_TOLERANCE_MS), Optional.empty());
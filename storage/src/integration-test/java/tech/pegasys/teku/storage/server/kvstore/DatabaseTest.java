@@ -1241,6 +1241,34 @@ public class DatabaseTest {
         .isCompletedWithValue(Optional.of(blockAndState2.getState()));
   }
 
+  @TestTemplate
+  public void shouldLoadHotBlockMetadataFromSnapshotAfterRestart(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final SignedBlockAndState blockAndState1 = chainBuilder.generateBlockAtSlot(1);
+    add(List.of(blockAndState1));
+
+    // Closing the database records the blocks added since the last snapshot
+    restartStorage();
+    final KvStoreDatabase kvStoreDatabase = (KvStoreDatabase) database;
+    final Checkpoint finalizedCheckpoint = kvStoreDatabase.getFinalizedCheckpoint().orElseThrow();
+    assertThat(kvStoreDatabase.dao.getHotBlockMetadataSnapshot())
+        .hasValueSatisfying(
+            snapshot -> {
+              assertThat(snapshot.finalizedCheckpoint()).isEqualTo(finalizedCheckpoint);
+              assertThat(snapshot.blocks())
+                  .extracting(StoredBlockMetadata::getBlockRoot)
+                  .contains(blockAndState1.getRoot());
+            });
+
+    // Blocks added after the snapshot was written are read from the hot blocks
+    final SignedBlockAndState blockAndState2 = chainBuilder.generateBlockAtSlot(2);
+    add(List.of(blockAndState2));
+    assertThat(kvStoreDatabase.loadHotBlockMetadata(finalizedCheckpoint))
+        .isEqualTo(kvStoreDatabase.buildHotBlockMetadata())
+        .containsKey(blockAndState2.getRoot());
+  }
+
   @TestTemplate
   public void shouldRemoveHotBlocksAndStatesOnceEpochIsFinalized(final DatabaseContext context)
       throws IOException {
@@ -0,0 +1,126 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ForkChoiceNode;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class ProtoArrayBenchmark {
+  private static final Checkpoint GENESIS_CHECKPOINT = new Checkpoint(UInt64.ZERO, Bytes32.ZERO);
+  private static final BlockCheckpoints CHECKPOINTS =
+      new BlockCheckpoints(
+          GENESIS_CHECKPOINT, GENESIS_CHECKPOINT, GENESIS_CHECKPOINT, GENESIS_CHECKPOINT);
+  // Every nth block is a sibling of the previous one so some nodes have competing children
+  private static final int FORK_INTERVAL = 16;
+
+  @Param({"10000", "50000", "100000"})
+  int nodeCount;
+
+  private ProtoArray protoArray;
+  private HeadSelectionContext headSelectionContext;
+  private final LongList deltas = new LongArrayList();
+
+  @Setup(Level.Trial)
+  public void init() {
+    protoArray =
+        ProtoArray.builder()
+            .spec(TestSpecFactory.createMinimalPhase0())
+            .currentEpoch(UInt64.ZERO)
+            .justifiedCheckpoint(GENESIS_CHECKPOINT)
+            .finalizedCheckpoint(GENESIS_CHECKPOINT)
+            .build();
+    headSelectionContext =
+        new HeadSelectionContext(
+            ForkChoiceModelPhase0.INSTANCE,
+            new BlockNodeVariantsIndex(),
+            UInt64.ZERO,
+            Optional.empty());
+
+    addNode(0, Bytes32.ZERO, Optional.empty());
+    Bytes32 parentRoot = Bytes32.ZERO;
+    Bytes32 grandparentRoot = Bytes32.ZERO;
+    for (int slot = 1; slot < nodeCount; slot++) {
+      final Bytes32 blockRoot = Bytes32.leftPad(Bytes.ofUnsignedInt(slot));
+      if (slot % FORK_INTERVAL == 0) {
+        addNode(slot, blockRoot, Optional.of(ForkChoiceNode.createBase(grandparentRoot)));
+      } else {
+        addNode(slot, blockRoot, Optional.of(ForkChoiceNode.createBase(parentRoot)));
+        grandparentRoot = parentRoot;
+        parentRoot = blockRoot;
+      }
+    }
+
+    final Random random = new Random(1);
+    for (int i = 0; i < protoArray.getTotalTrackedNodeCount(); i++) {
+      deltas.add(random.nextInt(1_000_000));
+    }
+  }
+
+  @Benchmark
+  public void applyScoreChanges(final Blackhole bh) {
+    // Deltas are consumed while being applied so each invocation needs its own copy
+    protoArray.applyScoreChanges(
+        new LongArrayList(deltas),
+        UInt64.ZERO,
+        GENESIS_CHECKPOINT,
+        GENESIS_CHECKPOINT,
+        headSelectionContext);
+    bh.consume(protoArray);
+  }
+
+  @Benchmark
+  public void findHead(final Blackhole bh) {
+    bh.consume(
+        protoArray.findOptimisticHead(
+            UInt64.ZERO, GENESIS_CHECKPOINT, GENESIS_CHECKPOINT, headSelectionContext));
+  }
+
+  private void addNode(
+      final int slot, final Bytes32 blockRoot, final Optional<ForkChoiceNode> parentNode) {
+    protoArray.addNode(
+        ForkChoiceNode.createBase(blockRoot),
+        UInt64.valueOf(slot),
+        parentNode.map(ForkChoiceNode::blockRoot).orElse(Bytes32.ZERO),
+        parentNode,
+        Bytes32.ZERO,
+        CHECKPOINTS,
+        ProtoNode.NO_EXECUTION_BLOCK_NUMBER,
+        ProtoNode.NO_EXECUTION_BLOCK_HASH,
+        false);
+  }
+}
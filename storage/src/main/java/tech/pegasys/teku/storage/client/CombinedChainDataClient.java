@@ -18,8 +18,6 @@ import static com.google.common.base.Verify.verifyNotNull;
 import static tech.pegasys.teku.infrastructure.async.SafeFuture.completedFuture;
 
 import com.google.common.annotations.VisibleForTesting;
-import it.unimi.dsi.fastutil.ints.IntList;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -509,19 +507,7 @@ public class CombinedChainDataClient {
 
   public List<CommitteeAssignment> getCommitteesFromState(
       final BeaconState state, final UInt64 epoch) {
-    List<CommitteeAssignment> result = new ArrayList<>();
-    final int slotsPerEpoch = spec.slotsPerEpoch(epoch);
-    final UInt64 startingSlot = spec.computeStartSlotAtEpoch(epoch);
-    int committeeCount = spec.getCommitteeCountPerSlot(state, epoch).intValue();
-    for (int i = 0; i < slotsPerEpoch; i++) {
-      UInt64 slot = startingSlot.plus(i);
-      for (int j = 0; j < committeeCount; j++) {
-        UInt64 idx = UInt64.valueOf(j);
-        IntList committee = spec.getBeaconCommittee(state, slot, idx);
-        result.add(new CommitteeAssignment(committee, idx, slot));
-      }
-    }
-    return result;
+    return spec.getEpochCommitteeAssignments(state, epoch).getCommittees();
   }
 
   /**
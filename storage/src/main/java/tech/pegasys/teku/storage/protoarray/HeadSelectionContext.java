@@ -62,7 +62,8 @@ public record HeadSelectionContext(
     if (modelComparison != 0) {
       return modelComparison;
     }
-    if (candidateChild.getWeight().equals(currentBestChild.getWeight())) {
+    final int weightComparison = candidateChild.compareWeightTo(currentBestChild);
+    if (weightComparison == 0) {
       // Spec tie-breaker: when viable children have equal weight, prefer the higher root.
       return candidateChild
           .getBlockRoot()
@@ -70,7 +71,7 @@ public record HeadSelectionContext(
           .compareTo(currentBestChild.getBlockRoot().toHexString());
     }
     // Choose the winner by weight.
-    return candidateChild.getWeight().compareTo(currentBestChild.getWeight());
+    return weightComparison;
   }
 
   public ProtoNode resolveBestDescendant(final ProtoNode candidate, final ProtoArray protoArray) {
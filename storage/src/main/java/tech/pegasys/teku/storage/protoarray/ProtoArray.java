@@ -19,6 +19,7 @@ import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.INVALID;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.OPTIMISTIC;
 import static tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus.VALID;
+import static tech.pegasys.teku.storage.protoarray.ProtoNode.NO_INDEX;
 
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
@@ -307,7 +308,10 @@ public class ProtoArray {
       return Optional.empty();
     }
 
-    int bestDescendantIndex = justifiedNode.getBestDescendantIndex().orElse(justifiedIndex);
+    int bestDescendantIndex = justifiedNode.getBestDescendantIndexAsInt();
+    if (bestDescendantIndex == NO_INDEX) {
+      bestDescendantIndex = justifiedIndex;
+    }
     ProtoNode bestNode = getNodeByIndex(bestDescendantIndex);
 
     // Normally the best descendant index would point straight to chain head, but onBlock /
@@ -321,20 +325,19 @@ public class ProtoArray {
     // onExecutionPayload). This mirrors the spec's get_head semantics, which picks the preferred
     // child at every level rather than just at the leaf.
     bestNode = headSelectionContext.resolveBestDescendant(bestNode, this);
-    while (bestNode.getBestDescendantIndex().isPresent() && !bestNode.isInvalid()) {
-      bestDescendantIndex = bestNode.getBestDescendantIndex().get();
+    while (bestNode.getBestDescendantIndexAsInt() != NO_INDEX && !bestNode.isInvalid()) {
       bestNode =
-          headSelectionContext.resolveBestDescendant(getNodeByIndex(bestDescendantIndex), this);
+          headSelectionContext.resolveBestDescendant(
+              getNodeByIndex(bestNode.getBestDescendantIndexAsInt()), this);
     }
 
     // Walk backwards to find the last valid node in the chain
     while (bestNode.isInvalid()) {
-      final Optional<Integer> maybeParentIndex = bestNode.getParentIndex();
-      if (maybeParentIndex.isEmpty()) {
+      final int parentIndex = bestNode.getParentIndexAsInt();
+      if (parentIndex == NO_INDEX) {
         // No node on this chain with sufficient validity.
         return Optional.empty();
       }
-      final int parentIndex = maybeParentIndex.get();
       bestNode = getNodeByIndex(parentIndex);
     }
 
@@ -566,35 +569,27 @@ public class ProtoArray {
     // Iterate through all the existing nodes and adjust their indices to match the
     // new layout of nodes.
     for (ProtoNode node : nodes) {
-      node.getParentIndex()
-          .ifPresent(
-              parentIndex -> {
-                // If node.parentIndex is less than finalizedIndex, set is to None.
-                if (parentIndex < finalizedIndex) {
-                  node.setParentIndex(Optional.empty());
-                } else {
-                  node.setParentIndex(Optional.of(parentIndex - finalizedIndex));
-                }
-              });
-
-      node.getBestChildIndex()
-          .ifPresent(
-              bestChildIndex -> {
-                int newBestChildIndex = bestChildIndex - finalizedIndex;
-                checkState(
-                    newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
-                node.setBestChildIndex(Optional.of(newBestChildIndex));
-              });
-
-      node.getBestDescendantIndex()
-          .ifPresent(
-              bestDescendantIndex -> {
-                int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
-                checkState(
-                    newBestDescendantIndex >= 0,
-                    "ProtoArray: New best descendant index is less than 0");
-                node.setBestDescendantIndex(Optional.of(newBestDescendantIndex));
-              });
+      final int parentIndex = node.getParentIndexAsInt();
+      if (parentIndex != ProtoNode.NO_INDEX) {
+        // If node.parentIndex is less than finalizedIndex, clear it.
+        node.setParentIndex(
+            parentIndex < finalizedIndex ? ProtoNode.NO_INDEX : parentIndex - finalizedIndex);
+      }
+
+      final int bestChildIndex = node.getBestChildIndexAsInt();
+      if (bestChildIndex != ProtoNode.NO_INDEX) {
+        final int newBestChildIndex = bestChildIndex - finalizedIndex;
+        checkState(newBestChildIndex >= 0, "ProtoArray: New best child index is less than 0");
+        node.setBestChildIndex(newBestChildIndex);
+      }
+
+      final int bestDescendantIndex = node.getBestDescendantIndexAsInt();
+      if (bestDescendantIndex != ProtoNode.NO_INDEX) {
+        final int newBestDescendantIndex = bestDescendantIndex - finalizedIndex;
+        checkState(
+            newBestDescendantIndex >= 0, "ProtoArray: New best descendant index is less than 0");
+        node.setBestDescendantIndex(newBestDescendantIndex);
+      }
     }
   }
 
@@ -625,62 +620,59 @@ public class ProtoArray {
 
     boolean childLeadsToViableHead = nodeLeadsToViableHead(child);
 
-    parent
-        .getBestChildIndex()
-        .ifPresentOrElse(
-            bestChildIndex -> {
-              if (bestChildIndex.equals(childIndex) && !childLeadsToViableHead) {
-                // If the child is already the best-child of the parent but it's not viable for
-                // the head, remove it.
-                changeToNone(parent);
-              } else if (bestChildIndex.equals(childIndex)) {
-                // If the child is the best-child already, set it again to ensure that the
-                // best-descendant of the parent is updated.
-                changeToChild(parent, childIndex);
-              } else {
-                ProtoNode bestChild = getNodeByIndex(bestChildIndex);
-
-                boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
-
-                if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
-                  // The child leads to a viable head, but the current best-child doesn't.
-                  changeToChild(parent, childIndex);
-                } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
-                  // The best child leads to a viable head, but the child doesn't.
-                  // No change.
-                } else {
-                  final int childComparison =
-                      headSelectionContext.compareViableChildren(child, bestChild, parent, this);
-                  if (childComparison > 0) {
-                    changeToChild(parent, childIndex);
-                  } else {
-                    // No change.
-                  }
-                }
-              }
-            },
-            () -> {
-              if (childLeadsToViableHead) {
-                // There is no current best-child and the child is viable.
-                changeToChild(parent, childIndex);
-              } else {
-                // There is no current best-child but the child is not not viable.
-                // No change.
-              }
-            });
+    final int bestChildIndex = parent.getBestChildIndexAsInt();
+    if (bestChildIndex == NO_INDEX) {
+      if (childLeadsToViableHead) {
+        // There is no current best-child and the child is viable.
+        changeToChild(parent, childIndex);
+      } else {
+        // There is no current best-child but the child is not not viable.
+        // No change.
+      }
+    } else if (bestChildIndex == childIndex && !childLeadsToViableHead) {
+      // If the child is already the best-child of the parent but it's not viable for
+      // the head, remove it.
+      changeToNone(parent);
+    } else if (bestChildIndex == childIndex) {
+      // If the child is the best-child already, set it again to ensure that the
+      // best-descendant of the parent is updated.
+      changeToChild(parent, childIndex);
+    } else {
+      ProtoNode bestChild = getNodeByIndex(bestChildIndex);
+
+      boolean bestChildLeadsToViableHead = nodeLeadsToViableHead(bestChild);
+
+      if (childLeadsToViableHead && !bestChildLeadsToViableHead) {
+        // The child leads to a viable head, but the current best-child doesn't.
+        changeToChild(parent, childIndex);
+      } else if (!childLeadsToViableHead && bestChildLeadsToViableHead) {
+        // The best child leads to a viable head, but the child doesn't.
+        // No change.
+      } else {
+        final int childComparison =
+            headSelectionContext.compareViableChildren(child, bestChild, parent, this);
+        if (childComparison > 0) {
+          changeToChild(parent, childIndex);
+        } else {
+          // No change.
+        }
+      }
+    }
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
   private void changeToChild(final ProtoNode parent, final int childIndex) {
     ProtoNode child = getNodeByIndex(childIndex);
-    parent.setBestChildIndex(Optional.of(childIndex));
-    parent.setBestDescendantIndex(Optional.of(child.getBestDescendantIndex().orElse(childIndex)));
+    final int childBestDescendantIndex = child.getBestDescendantIndexAsInt();
+    parent.setBestChildIndex(childIndex);
+    parent.setBestDescendantIndex(
+        childBestDescendantIndex == NO_INDEX ? childIndex : childBestDescendantIndex);
   }
 
   /** Helper for maybeUpdateBestChildAndDescendant */
   private void changeToNone(final ProtoNode parent) {
-    parent.setBestChildIndex(Optional.empty());
-    parent.setBestDescendantIndex(Optional.empty());
+    parent.setBestChildIndex(NO_INDEX);
+    parent.setBestDescendantIndex(NO_INDEX);
   }
 
   /**
@@ -692,10 +684,9 @@ public class ProtoArray {
       return true;
     }
 
-    return node.getBestDescendantIndex()
-        .map(this::getNodeByIndex)
-        .map(this::nodeIsViableForHead)
-        .orElse(false);
+    final int bestDescendantIndex = node.getBestDescendantIndexAsInt();
+    return bestDescendantIndex != NO_INDEX
+        && nodeIsViableForHead(getNodeByIndex(bestDescendantIndex));
   }
 
   /**
@@ -808,19 +799,19 @@ public class ProtoArray {
 
   private void updateBestChildAndDescendantOfParent(
       final ProtoNode node, final int nodeIndex, final HeadSelectionContext headSelectionContext) {
-    node.getParentIndex()
-        .ifPresent(
-            parentIndex ->
-                maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex, headSelectionContext));
+    final int parentIndex = node.getParentIndexAsInt();
+    if (parentIndex != NO_INDEX) {
+      maybeUpdateBestChildAndDescendant(parentIndex, nodeIndex, headSelectionContext);
+    }
   }
 
   private void applyDelta(final LongList deltas, final ProtoNode node, final int nodeIndex) {
     // If the node is invalid, remove any existing weight.
-    long nodeDelta = node.isInvalid() ? -node.getWeight().longValue() : deltas.getLong(nodeIndex);
+    long nodeDelta = node.isInvalid() ? -node.getWeightAsLong() : deltas.getLong(nodeIndex);
     node.adjustWeight(nodeDelta);
 
-    if (node.getParentIndex().isPresent()) {
-      int parentIndex = node.getParentIndex().get();
+    final int parentIndex = node.getParentIndexAsInt();
+    if (parentIndex != NO_INDEX) {
       deltas.set(parentIndex, deltas.getLong(parentIndex) + nodeDelta);
     }
   }
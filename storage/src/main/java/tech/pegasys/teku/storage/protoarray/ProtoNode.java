@@ -36,6 +36,9 @@ public class ProtoNode {
   public static final Bytes32 NO_EXECUTION_BLOCK_HASH = Bytes32.ZERO;
   public static final UInt64 NO_EXECUTION_GAS_LIMIT = UInt64.ZERO;
 
+  /** Marks an absent parent, best child or best descendant index. */
+  static final int NO_INDEX = -1;
+
   private static final Logger LOG = LogManager.getLogger();
 
   private final ForkChoiceNode forkChoiceNode;
@@ -62,10 +65,12 @@ public class ProtoNode {
 
   private final UInt64 executionGasLimit;
 
-  private UInt64 weight;
-  private Optional<Integer> parentIndex;
-  private Optional<Integer> bestChildIndex;
-  private Optional<Integer> bestDescendantIndex;
+  // Weight and links are held as primitives as they are read and updated for every node each
+  // time score changes are applied. The weight is an unsigned 64-bit value.
+  private long weight;
+  private int parentIndex;
+  private int bestChildIndex;
+  private int bestDescendantIndex;
   private ProtoNodeValidationStatus validationStatus;
 
   ProtoNode(
@@ -86,52 +91,62 @@ public class ProtoNode {
     this.blockSlot = blockSlot;
     this.stateRoot = stateRoot;
     this.parentRoot = parentRoot;
-    this.parentIndex = parentIndex;
+    this.parentIndex = parentIndex.orElse(NO_INDEX);
     this.checkpoints = checkpoints;
     this.executionBlockNumber = executionBlockNumber;
     this.executionBlockHash = executionBlockHash;
     this.executionGasLimit = executionGasLimit;
-    this.weight = weight;
-    this.bestChildIndex = bestChildIndex;
-    this.bestDescendantIndex = bestDescendantIndex;
+    this.weight = weight.longValue();
+    this.bestChildIndex = bestChildIndex.orElse(NO_INDEX);
+    this.bestDescendantIndex = bestDescendantIndex.orElse(NO_INDEX);
     this.validationStatus = validationStatus;
   }
 
   public void adjustWeight(final long delta) {
     if (delta < 0) {
       final long absoluteDelta = -delta;
-      try {
-        weight = weight.minus(absoluteDelta);
-      } catch (final ArithmeticException __) {
+      if (Long.compareUnsigned(absoluteDelta, weight) > 0) {
         LOG.error(
             "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be subtracted causes uint64 underflow for block {} ({}). Attempting to subtract {} from {}",
             getBlockRoot(),
             blockSlot,
             absoluteDelta,
-            weight);
-        weight = UInt64.ZERO;
+            getWeight());
+        weight = 0;
+      } else {
+        weight -= absoluteDelta;
       }
 
     } else {
-      try {
-        weight = weight.plus(delta);
-      } catch (final ArithmeticException __) {
+      final long newWeight = weight + delta;
+      if (Long.compareUnsigned(newWeight, weight) < 0) {
         LOG.error(
             "PLEASE FIX OR REPORT ProtoArray adjustWeight bug: Delta to be added causes uint64 overflow for block {} ({}). Attempting to add {} to {}",
             getBlockRoot(),
             blockSlot,
             delta,
-            weight);
-        weight = UInt64.MAX_VALUE;
+            getWeight());
+        weight = UInt64.MAX_VALUE.longValue();
+      } else {
+        weight = newWeight;
       }
     }
   }
 
+  int compareWeightTo(final ProtoNode other) {
+    return Long.compareUnsigned(weight, other.weight);
+  }
+
   public Bytes32 getParentRoot() {
     return parentRoot;
   }
 
   public UInt64 getWeight() {
+    return UInt64.fromLongBits(weight);
+  }
+
+  /** Returns the unsigned weight as raw long bits without allocating. */
+  long getWeightAsLong() {
     return weight;
   }
 
@@ -152,6 +167,11 @@ public class ProtoNode {
   }
 
   public Optional<Integer> getParentIndex() {
+    return toOptional(parentIndex);
+  }
+
+  /** Returns the parent index or {@link #NO_INDEX} without allocating. */
+  int getParentIndexAsInt() {
     return parentIndex;
   }
 
@@ -192,25 +212,51 @@ public class ProtoNode {
   }
 
   public void setParentIndex(final Optional<Integer> parentIndex) {
+    this.parentIndex = parentIndex.orElse(NO_INDEX);
+  }
+
+  void setParentIndex(final int parentIndex) {
     this.parentIndex = parentIndex;
   }
 
   public Optional<Integer> getBestChildIndex() {
+    return toOptional(bestChildIndex);
+  }
+
+  /** Returns the best child index or {@link #NO_INDEX} without allocating. */
+  int getBestChildIndexAsInt() {
     return bestChildIndex;
   }
 
   public void setBestChildIndex(final Optional<Integer> bestChildIndex) {
+    this.bestChildIndex = bestChildIndex.orElse(NO_INDEX);
+  }
+
+  void setBestChildIndex(final int bestChildIndex) {
     this.bestChildIndex = bestChildIndex;
   }
 
   public Optional<Integer> getBestDescendantIndex() {
+    return toOptional(bestDescendantIndex);
+  }
+
+  /** Returns the best descendant index or {@link #NO_INDEX} without allocating. */
+  int getBestDescendantIndexAsInt() {
     return bestDescendantIndex;
   }
 
   public void setBestDescendantIndex(final Optional<Integer> bestDescendantIndex) {
+    this.bestDescendantIndex = bestDescendantIndex.orElse(NO_INDEX);
+  }
+
+  void setBestDescendantIndex(final int bestDescendantIndex) {
     this.bestDescendantIndex = bestDescendantIndex;
   }
 
+  private static Optional<Integer> toOptional(final int index) {
+    return index == NO_INDEX ? Optional.empty() : Optional.of(index);
+  }
+
   public boolean isFullyValidated() {
     return validationStatus == ProtoNodeValidationStatus.VALID;
   }
@@ -248,7 +294,7 @@ public class ProtoNode {
         executionGasLimit,
         validationStatus,
         checkpoints,
-        weight,
+        getWeight(),
         getPayloadStatus());
   }
 
@@ -269,10 +315,10 @@ public class ProtoNode {
         && Objects.equals(executionBlockNumber, protoNode.executionBlockNumber)
         && Objects.equals(executionBlockHash, protoNode.executionBlockHash)
         && Objects.equals(executionGasLimit, protoNode.executionGasLimit)
-        && Objects.equals(weight, protoNode.weight)
-        && Objects.equals(parentIndex, protoNode.parentIndex)
-        && Objects.equals(bestChildIndex, protoNode.bestChildIndex)
-        && Objects.equals(bestDescendantIndex, protoNode.bestDescendantIndex)
+        && weight == protoNode.weight
+        && parentIndex == protoNode.parentIndex
+        && bestChildIndex == protoNode.bestChildIndex
+        && bestDescendantIndex == protoNode.bestDescendantIndex
         && validationStatus == protoNode.validationStatus;
   }
 
@@ -308,10 +354,10 @@ public class ProtoNode {
         .add("executionBlockNumber", executionBlockNumber)
         .add("executionBlockHash", executionBlockHash)
         .add("executionGasLimit", executionGasLimit)
-        .add("weight", weight)
-        .add("parentIndex", parentIndex)
-        .add("bestChildIndex", bestChildIndex)
-        .add("bestDescendantIndex", bestDescendantIndex)
+        .add("weight", getWeight())
+        .add("parentIndex", getParentIndex())
+        .add("bestChildIndex", getBestChildIndex())
+        .add("bestDescendantIndex", getBestDescendantIndex())
         .add("validationStatus", validationStatus)
         .toString();
   }
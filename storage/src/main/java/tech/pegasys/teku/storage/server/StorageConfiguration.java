@@ -34,6 +34,7 @@ import tech.pegasys.teku.spec.Spec;
 public class StorageConfiguration {
   public static final boolean DEFAULT_STORE_NON_CANONICAL_BLOCKS_ENABLED = false;
   public static final boolean DEFAULT_ROCKSDB_BLOB_DB_ENABLED = false;
+  public static final boolean DEFAULT_HOT_STATE_DIFFS_ENABLED = false;
   public static final int DEFAULT_STATE_REBUILD_TIMEOUT_SECONDS = 120;
   public static final long DEFAULT_STORAGE_FREQUENCY = 2048L;
   public static final int DEFAULT_MAX_KNOWN_NODE_CACHE_SIZE = 5_000_000;
@@ -76,6 +77,7 @@ public class StorageConfiguration {
   private final int stateRebuildTimeoutSeconds;
   private final boolean forceClearDb;
   private final boolean rocksdbBlobDbEnabled;
+  private final boolean hotStateDiffsEnabled;
 
   private StorageConfiguration(
       final Eth1Address eth1DepositContract,
@@ -97,7 +99,8 @@ public class StorageConfiguration {
       final int statePruningLimit,
       final Spec spec,
       final boolean forceClearDb,
-      final boolean rocksdbBlobDbEnabled) {
+      final boolean rocksdbBlobDbEnabled,
+      final boolean hotStateDiffsEnabled) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
     this.dataStorageFrequency = dataStorageFrequency;
@@ -118,6 +121,7 @@ public class StorageConfiguration {
     this.spec = spec;
     this.forceClearDb = forceClearDb;
     this.rocksdbBlobDbEnabled = rocksdbBlobDbEnabled;
+    this.hotStateDiffsEnabled = hotStateDiffsEnabled;
   }
 
   public static Builder builder() {
@@ -204,6 +208,10 @@ public class StorageConfiguration {
     return rocksdbBlobDbEnabled;
   }
 
+  public boolean isHotStateDiffsEnabled() {
+    return hotStateDiffsEnabled;
+  }
+
   public static final class Builder {
     private static final Logger LOG = LogManager.getLogger();
     private Eth1Address eth1DepositContract;
@@ -227,6 +235,7 @@ public class StorageConfiguration {
     private int statePruningLimit = DEFAULT_STATE_PRUNING_LIMIT;
     private boolean forceClearDb = false;
     private boolean rocksdbBlobDbEnabled = DEFAULT_ROCKSDB_BLOB_DB_ENABLED;
+    private boolean hotStateDiffsEnabled = DEFAULT_HOT_STATE_DIFFS_ENABLED;
 
     private Builder() {}
 
@@ -390,6 +399,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder hotStateDiffsEnabled(final boolean hotStateDiffsEnabled) {
+      this.hotStateDiffsEnabled = hotStateDiffsEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       determineDataStorageMode();
       validateStatePruningConfiguration();
@@ -413,7 +427,8 @@ public class StorageConfiguration {
           statePruningLimit,
           spec,
           forceClearDb,
-          rocksdbBlobDbEnabled);
+          rocksdbBlobDbEnabled,
+          hotStateDiffsEnabled);
     }
 
     private void determineDataStorageMode() {
@@ -70,6 +70,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final Spec spec;
   private final boolean storeNonCanonicalBlocks;
   private final boolean rocksdbBlobDbEnabled;
+  private final boolean hotStateDiffsEnabled;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
 
@@ -89,6 +90,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
     this.rocksdbBlobDbEnabled = config.isRocksdbBlobDbEnabled();
+    this.hotStateDiffsEnabled = config.isHotStateDiffsEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -279,6 +281,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          hotStateDiffsEnabled,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -323,6 +326,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           stateStorageMode,
           stateStorageFrequency,
           storeNonCanonicalBlocks,
+          hotStateDiffsEnabled,
           spec);
     } catch (final IOException e) {
       throw DatabaseStorageException.unrecoverable("Failed to read metadata", e);
@@ -338,6 +342,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()).withBlobDbEnabled(blobDbEnabled),
           stateStorageMode,
           storeNonCanonicalBlocks,
+          hotStateDiffsEnabled,
           maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
@@ -354,6 +359,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
           dbConfiguration.withDatabaseDir(dbDirectory.toPath()),
           stateStorageMode,
           storeNonCanonicalBlocks,
+          hotStateDiffsEnabled,
           maxKnownNodeCacheSize,
           spec);
     } catch (final IOException e) {
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -97,17 +98,22 @@ import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedSnapshotSta
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombinedTreeState;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaFinalizedSnapshotStateAdapter;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 import tech.pegasys.teku.storage.server.state.StateRootRecorder;
 
 public class KvStoreDatabase implements Database {
 
   protected static final int TX_BATCH_SIZE = 500;
   protected static final int BLOBS_TX_BATCH_SIZE = 100;
+  // Refresh the hot block metadata snapshot at least this often while the chain isn't finalizing
+  private static final int HOT_BLOCK_METADATA_SNAPSHOT_INTERVAL = 256;
   private static final Logger LOG = LogManager.getLogger();
   protected final Spec spec;
   protected final boolean storeNonCanonicalBlocks;
   @VisibleForTesting final KvStoreCombinedDao dao;
   private final StateStorageMode stateStorageMode;
+  // Hot blocks whose metadata isn't covered by the stored hot block metadata snapshot
+  private final AtomicInteger hotBlocksSinceMetadataSnapshot = new AtomicInteger();
 
   enum DataColumnSidecarType {
     CANONICAL("canonical"),
@@ -164,6 +170,7 @@ public class KvStoreDatabase implements Database {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final Spec spec,
       final MetricsSystem metricsSystem) {
     final V4FinalizedStateSnapshotStorageLogic<SchemaCombinedSnapshotState>
@@ -174,6 +181,7 @@ public class KvStoreDatabase implements Database {
         schema,
         stateStorageMode,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         spec,
         finalizedStateStorageLogic,
         metricsSystem);
@@ -185,6 +193,7 @@ public class KvStoreDatabase implements Database {
       final SchemaCombinedTreeState schema,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
     final V4FinalizedStateTreeStorageLogic finalizedStateStorageLogic =
@@ -194,6 +203,7 @@ public class KvStoreDatabase implements Database {
         schema,
         stateStorageMode,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         spec,
         finalizedStateStorageLogic,
         metricsSystem);
@@ -204,11 +214,13 @@ public class KvStoreDatabase implements Database {
       final S schema,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final Spec spec,
       final V4FinalizedStateStorageLogic<S> finalizedStateStorageLogic,
       final MetricsSystem metricsSystem) {
     final CombinedKvStoreDao<S> dao =
-        new CombinedKvStoreDao<>(db, schema, finalizedStateStorageLogic, metricsSystem);
+        new CombinedKvStoreDao<>(
+            db, schema, finalizedStateStorageLogic, metricsSystem, hotStateDiffsEnabled);
     return new KvStoreDatabase(dao, stateStorageMode, storeNonCanonicalBlocks, spec);
   }
 
@@ -335,32 +347,120 @@ public class KvStoreDatabase implements Database {
   protected Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata() {
     final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
     try (final Stream<SignedBeaconBlock> hotBlocks = dao.streamHotBlocks()) {
-      hotBlocks.forEach(
-          b -> {
-            final Optional<BlockCheckpoints> checkpointEpochs =
-                dao.getHotBlockCheckpointEpochs(b.getRoot());
-            final Optional<ExecutionPayload> executionPayload =
-                b.getMessage().getBody().getOptionalExecutionPayload();
-            final Optional<GloasForkChoiceRebuildData> gloasForkChoiceRebuildData =
-                StoredBlockMetadata.extractGloasForkChoiceRebuildData(
-                    b, dao.getBlindedExecutionPayloadEnvelope(b.getRoot()));
-            blockInformation.put(
-                b.getRoot(),
-                new StoredBlockMetadata(
-                    b.getSlot(),
-                    b.getRoot(),
-                    b.getParentRoot(),
-                    b.getStateRoot(),
-                    executionPayload.map(ExecutionPayload::getBlockNumber),
-                    executionPayload.map(ExecutionPayload::getBlockHash),
-                    executionPayload.map(ExecutionPayload::getGasLimit),
-                    checkpointEpochs,
-                    gloasForkChoiceRebuildData));
+      hotBlocks.forEach(b -> blockInformation.put(b.getRoot(), createHotBlockMetadata(b)));
+    }
+    return blockInformation;
+  }
+
+  private StoredBlockMetadata createHotBlockMetadata(final SignedBeaconBlock block) {
+    final Optional<BlockCheckpoints> checkpointEpochs =
+        dao.getHotBlockCheckpointEpochs(block.getRoot());
+    final Optional<ExecutionPayload> executionPayload =
+        block.getMessage().getBody().getOptionalExecutionPayload();
+    final Optional<GloasForkChoiceRebuildData> gloasForkChoiceRebuildData =
+        StoredBlockMetadata.extractGloasForkChoiceRebuildData(
+            block, dao.getBlindedExecutionPayloadEnvelope(block.getRoot()));
+    return new StoredBlockMetadata(
+        block.getSlot(),
+        block.getRoot(),
+        block.getParentRoot(),
+        block.getStateRoot(),
+        executionPayload.map(ExecutionPayload::getBlockNumber),
+        executionPayload.map(ExecutionPayload::getBlockHash),
+        executionPayload.map(ExecutionPayload::getGasLimit),
+        checkpointEpochs,
+        gloasForkChoiceRebuildData);
+  }
+
+  @VisibleForTesting
+  Map<Bytes32, StoredBlockMetadata> loadHotBlockMetadata(final Checkpoint finalizedCheckpoint) {
+    final Optional<HotBlockMetadataSnapshot> maybeSnapshot =
+        getHotBlockMetadataSnapshot()
+            .filter(snapshot -> snapshot.finalizedCheckpoint().equals(finalizedCheckpoint));
+    if (maybeSnapshot.isEmpty()) {
+      LOG.debug("No usable hot block metadata snapshot, rebuilding from hot blocks");
+      final Map<Bytes32, StoredBlockMetadata> blockInformation = buildHotBlockMetadata();
+      hotBlocksSinceMetadataSnapshot.set(blockInformation.size());
+      return blockInformation;
+    }
+    return mergeHotBlockMetadataSnapshot(maybeSnapshot.get());
+  }
+
+  /**
+   * Combines the snapshot with the current hot blocks. Snapshot entries are only used for blocks
+   * which are still hot and whose payload hasn't been revealed since the snapshot was written, so
+   * only blocks added or changed after the snapshot have to be read.
+   */
+  private Map<Bytes32, StoredBlockMetadata> mergeHotBlockMetadataSnapshot(
+      final HotBlockMetadataSnapshot snapshot) {
+    final Map<Bytes32, StoredBlockMetadata> snapshotBlocks = new HashMap<>();
+    snapshot.blocks().forEach(block -> snapshotBlocks.put(block.getBlockRoot(), block));
+
+    final Map<Bytes32, StoredBlockMetadata> blockInformation = new HashMap<>();
+    final List<Bytes32> blockRootsToLoad = new ArrayList<>();
+    try (final Stream<Bytes32> hotBlockRoots = dao.streamHotBlockRoots()) {
+      hotBlockRoots.forEach(
+          blockRoot -> {
+            final StoredBlockMetadata blockMetadata = snapshotBlocks.get(blockRoot);
+            if (blockMetadata == null || isPayloadRevealedSinceSnapshot(blockMetadata)) {
+              blockRootsToLoad.add(blockRoot);
+            } else {
+              blockInformation.put(blockRoot, blockMetadata);
+            }
           });
     }
+    blockRootsToLoad.forEach(
+        blockRoot ->
+            dao.getHotBlock(blockRoot)
+                .map(this::createHotBlockMetadata)
+                .ifPresent(blockMetadata -> blockInformation.put(blockRoot, blockMetadata)));
+    hotBlocksSinceMetadataSnapshot.set(blockRootsToLoad.size());
     return blockInformation;
   }
 
+  private boolean isPayloadRevealedSinceSnapshot(final StoredBlockMetadata blockMetadata) {
+    return blockMetadata
+        .getGloasForkChoiceRebuildData()
+        .map(
+            rebuildData ->
+                rebuildData.payloadBlockNumber().isEmpty()
+                    && dao.getBlindedExecutionPayloadEnvelope(blockMetadata.getBlockRoot())
+                        .isPresent())
+        .orElse(false);
+  }
+
+  private Optional<HotBlockMetadataSnapshot> getHotBlockMetadataSnapshot() {
+    try {
+      return dao.getHotBlockMetadataSnapshot();
+    } catch (final RuntimeException e) {
+      LOG.warn("Ignoring unreadable hot block metadata snapshot: {}", e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private void storeHotBlockMetadataSnapshot() {
+    final Optional<Checkpoint> maybeFinalizedCheckpoint = dao.getFinalizedCheckpoint();
+    if (maybeFinalizedCheckpoint.isEmpty()) {
+      return;
+    }
+    try {
+      // Block metadata doesn't depend on finalization so any readable snapshot can be reused here
+      final Map<Bytes32, StoredBlockMetadata> blockInformation =
+          getHotBlockMetadataSnapshot()
+              .map(this::mergeHotBlockMetadataSnapshot)
+              .orElseGet(this::buildHotBlockMetadata);
+      try (final HotUpdater updater = hotUpdater()) {
+        updater.setHotBlockMetadataSnapshot(
+            new HotBlockMetadataSnapshot(
+                maybeFinalizedCheckpoint.get(), List.copyOf(blockInformation.values())));
+        updater.commit();
+      }
+      hotBlocksSinceMetadataSnapshot.set(0);
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to store hot block metadata snapshot", e);
+    }
+  }
+
   protected void storeAnchorStateAndBlock(
       final CombinedUpdater updater, final BeaconState anchorState, final SignedBeaconBlock block) {
     updater.addHotBlock(
@@ -848,7 +948,8 @@ public class KvStoreDatabase implements Database {
     final Map<UInt64, VoteTracker> votes = dao.getVotes();
 
     // Build map with block information
-    final Map<Bytes32, StoredBlockMetadata> blockInformation = buildHotBlockMetadata();
+    final Map<Bytes32, StoredBlockMetadata> blockInformation =
+        loadHotBlockMetadata(finalizedCheckpoint);
     // If anchor block is missing, try to pull block info from the anchor state
     final boolean shouldIncludeAnchorBlock =
         maybeAnchor.isPresent()
@@ -1533,6 +1634,9 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void close() throws Exception {
+    if (hotBlocksSinceMetadataSnapshot.get() > 0) {
+      storeHotBlockMetadataSnapshot();
+    }
     dao.close();
   }
 
@@ -1620,6 +1724,13 @@ public class KvStoreDatabase implements Database {
                 latestFinalizedStateUpdateEndTime - latestFinalizedStateUpdateStartTime),
         startTime,
         endTime);
+
+    final int hotBlocksAdded =
+        hotBlocksSinceMetadataSnapshot.addAndGet(update.getHotBlocks().size());
+    if (update.getFinalizedCheckpoint().isPresent()
+        || hotBlocksAdded >= HOT_BLOCK_METADATA_SNAPSHOT_INTERVAL) {
+      storeHotBlockMetadataSnapshot();
+    }
     LOG.trace("Update complete");
     return new UpdateResult(finalizedOptimisticExecutionPayload);
   }
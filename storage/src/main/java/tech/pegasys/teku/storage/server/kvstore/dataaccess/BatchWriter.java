@@ -31,6 +31,7 @@ class BatchWriter implements AutoCloseable {
 
   private long transactionCounter = 0;
   private long entryCounter = 0;
+  private long committedEntryCounter = 0;
   private long bytes = 0;
   private final Optional<UInt64> maybeExpectedCount;
 
@@ -70,6 +71,16 @@ class BatchWriter implements AutoCloseable {
       transaction.commit();
       transaction.close();
       transaction = null;
+      committedEntryCounter = entryCounter;
+    }
+  }
+
+  /** Closes the current transaction without committing entries added since the last commit */
+  void discard() {
+    if (transaction != null) {
+      transaction.close();
+      transaction = null;
+      entryCounter = committedEntryCounter;
     }
   }
 
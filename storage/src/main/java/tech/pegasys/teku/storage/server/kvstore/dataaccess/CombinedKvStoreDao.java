@@ -16,10 +16,13 @@ package tech.pegasys.teku.storage.server.kvstore.dataaccess;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableMap;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -27,8 +30,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.zip.CRC32C;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -58,13 +67,17 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedStateStora
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 
 public class CombinedKvStoreDao<S extends SchemaCombined>
     implements KvStoreCombinedDao, V4MigratableSourceDao {
+  private static final int MAX_INGEST_THREADS = 4;
+
   // Persistent data
   private final KvStoreAccessor db;
   private final S schema;
   private final V4FinalizedStateStorageLogic<S> stateStorageLogic;
+  private final HotStateStorageLogic hotStateStorageLogic;
 
   // Latency metrics for finalized data operations
   private final LabelledMetric<OperationTimer> getFinalizedBlockTimer;
@@ -73,15 +86,18 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   private final LabelledMetric<OperationTimer> getDataColumnSidecarTimer;
   private final LabelledMetric<OperationTimer> getNonCanonicalBlobSidecarTimer;
   private final LabelledMetric<OperationTimer> getDataColumnSidecarsProofsTimer;
+  private final LabelledMetric<OperationTimer> getHotStateTimer;
 
   public CombinedKvStoreDao(
       final KvStoreAccessor db,
       final S schema,
       final V4FinalizedStateStorageLogic<S> stateStorageLogic,
-      final MetricsSystem metricsSystem) {
+      final MetricsSystem metricsSystem,
+      final boolean hotStateDiffsEnabled) {
     this.db = db;
     this.schema = schema;
     this.stateStorageLogic = stateStorageLogic;
+    this.hotStateStorageLogic = new HotStateStorageLogic(metricsSystem, hotStateDiffsEnabled);
 
     // Create latency timers for measuring blob DB performance improvements
     this.getFinalizedBlockTimer =
@@ -110,6 +126,9 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
             STORAGE,
             "get_data_column_sidecars_proofs_latency",
             "Latency for retrieving data column sidecar proofs");
+    this.getHotStateTimer =
+        metricsSystem.createLabelledTimer(
+            STORAGE, "get_hot_state_latency", "Latency for retrieving hot states");
   }
 
   @Override
@@ -152,9 +171,16 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getColumnHotBlockCheckpointEpochsByRoot(), root);
   }
 
+  @Override
+  public Optional<HotBlockMetadataSnapshot> getHotBlockMetadataSnapshot() {
+    return db.get(schema.getVariableHotBlockMetadataSnapshot());
+  }
+
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
-    return db.get(schema.getColumnHotStatesByRoot(), root);
+    try (final OperationTimer.TimingContext ignored = getHotStateTimer.labels().startTimer()) {
+      return hotStateStorageLogic.getHotState(db, schema, root);
+    }
   }
 
   @Override
@@ -175,6 +201,12 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.streamRaw(schema.getColumnHotBlocksByRoot()).map(entry -> entry);
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<Bytes32> streamHotBlockRoots() {
+    return db.streamKeys(schema.getColumnHotBlocksByRoot());
+  }
+
   @Override
   public Optional<BeaconState> getLatestFinalizedState() {
     return db.get(schema.getVariableLatestFinalizedState());
@@ -238,7 +270,8 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
   @Override
   @MustBeClosed
   public CombinedUpdater combinedUpdater() {
-    return new V4CombinedUpdater<>(db, schema, stateStorageLogic.updater());
+    return new V4CombinedUpdater<>(
+        db, schema, stateStorageLogic.updater(), hotStateStorageLogic.updater());
   }
 
   @Override
@@ -270,15 +303,95 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       checkArgument(
           oldColumns.keySet().equals(newColumns.keySet()),
           "Cannot migrate database as source and target formats do not use the same columns");
-      for (String key : newColumns.keySet()) {
-        final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
-        try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
-                dao.streamRawColumn(oldColumns.get(key));
-            BatchWriter batchWriter = new BatchWriter(batchSize, logger, db, maybeCount)) {
-          oldEntryStream.forEach(entry -> batchWriter.add(newColumns.get(key), entry));
+      // Columns are independent, so copy several at once to overlap reads and writes
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(Math.min(MAX_INGEST_THREADS, newColumns.size()));
+      try {
+        final List<Future<?>> columnCopies = new ArrayList<>();
+        for (final String key : newColumns.keySet()) {
+          columnCopies.add(
+              executor.submit(
+                  () -> copyColumn(key, oldColumns, newColumns.get(key), dao, batchSize, logger)));
+        }
+        for (final Future<?> columnCopy : columnCopies) {
+          columnCopy.get();
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while migrating database columns", e);
+      } catch (final ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException("Failed to migrate database columns", e.getCause());
+      } finally {
+        // Interrupt any copies still running and wait for them so nothing writes after we return
+        executor.shutdownNow();
+        executor.close();
+      }
+    }
+  }
+
+  private void copyColumn(
+      final String key,
+      final Map<String, KvStoreColumn<?, ?>> oldColumns,
+      final KvStoreColumn<?, ?> newColumn,
+      final V4MigratableSourceDao dao,
+      final int batchSize,
+      final Consumer<String> logger) {
+    final Optional<UInt64> maybeCount = displayCopyColumnMessage(key, oldColumns, dao, logger);
+    long sourceCount = 0;
+    long sourceChecksum = 0;
+    try (final Stream<ColumnEntry<Bytes, Bytes>> oldEntryStream =
+            dao.streamRawColumn(oldColumns.get(key));
+        BatchWriter batchWriter =
+            new BatchWriter(
+                batchSize,
+                message -> logger.accept(key + ": " + message.strip()),
+                db,
+                maybeCount)) {
+      final Iterator<ColumnEntry<Bytes, Bytes>> oldEntries = oldEntryStream.iterator();
+      while (oldEntries.hasNext()) {
+        if (Thread.currentThread().isInterrupted()) {
+          batchWriter.discard();
+          throw new CancellationException("Copy of column " + key + " was cancelled");
         }
+        final ColumnEntry<Bytes, Bytes> entry = oldEntries.next();
+        batchWriter.add(newColumn, entry);
+        sourceCount++;
+        sourceChecksum += entryChecksum(entry);
       }
     }
+
+    // Re-read the target column so the check covers what was actually persisted
+    long targetCount = 0;
+    long targetChecksum = 0;
+    try (final Stream<ColumnEntry<Bytes, Bytes>> newEntryStream = db.streamRaw(newColumn)) {
+      final Iterator<ColumnEntry<Bytes, Bytes>> newEntries = newEntryStream.iterator();
+      while (newEntries.hasNext()) {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new CancellationException("Verification of column " + key + " was cancelled");
+        }
+        targetCount++;
+        targetChecksum += entryChecksum(newEntries.next());
+      }
+    }
+    if (targetCount != sourceCount || targetChecksum != sourceChecksum) {
+      throw new IllegalStateException(
+          String.format(
+              "Column %s does not match after migration: %,d entries read from source, "
+                  + "%,d entries found in target, checksums %016x and %016x",
+              key, sourceCount, targetCount, sourceChecksum, targetChecksum));
+    }
+  }
+
+  /**
+   * Entries are combined by addition, so the column checksum does not depend on iteration order.
+   */
+  private static long entryChecksum(final ColumnEntry<Bytes, Bytes> entry) {
+    final CRC32C keyChecksum = new CRC32C();
+    keyChecksum.update(entry.getKey().toArrayUnsafe());
+    final CRC32C valueChecksum = new CRC32C();
+    valueChecksum.update(entry.getValue().toArrayUnsafe());
+    return (keyChecksum.getValue() << 32) | valueChecksum.getValue();
   }
 
   @Override
@@ -758,15 +871,18 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     private final KvStoreAccessor db;
     private final S schema;
     private final FinalizedStateUpdater<S> stateStorageUpdater;
+    private final HotStateStorageLogic.HotStateUpdater hotStateUpdater;
 
     V4CombinedUpdater(
         final KvStoreAccessor db,
         final S schema,
-        final FinalizedStateUpdater<S> stateStorageUpdater) {
+        final FinalizedStateUpdater<S> stateStorageUpdater,
+        final HotStateStorageLogic.HotStateUpdater hotStateUpdater) {
       this.transaction = db.startTransaction();
       this.db = db;
       this.schema = schema;
       this.stateStorageUpdater = stateStorageUpdater;
+      this.hotStateUpdater = hotStateUpdater;
     }
 
     @Override
@@ -804,6 +920,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.put(schema.getVariableCustodyGroupCount(), custodyGroupCount);
     }
 
+    @Override
+    public void setHotBlockMetadataSnapshot(final HotBlockMetadataSnapshot snapshot) {
+      transaction.put(schema.getVariableHotBlockMetadataSnapshot(), snapshot);
+    }
+
     @Override
     public void setWeakSubjectivityCheckpoint(final Checkpoint checkpoint) {
       transaction.put(schema.getVariableWeakSubjectivityCheckpoint(), checkpoint);
@@ -817,6 +938,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     @Override
     public void setLatestFinalizedState(final BeaconState state) {
       transaction.put(schema.getVariableLatestFinalizedState(), state);
+      hotStateUpdater.setLatestFinalizedState(state);
     }
 
     @Override
@@ -834,7 +956,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
-      transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+      hotStateUpdater.addHotState(blockRoot, state);
     }
 
     @Override
@@ -872,7 +994,7 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void deleteHotState(final Bytes32 blockRoot) {
-      transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+      hotStateUpdater.deleteHotState(blockRoot);
     }
 
     @Override
@@ -917,9 +1039,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
 
     @Override
     public void commit() {
+      hotStateUpdater.writeChanges(db, transaction, schema);
       // Commit db updates
       transaction.commit();
       stateStorageUpdater.commit();
+      hotStateUpdater.commit();
       close();
     }
 
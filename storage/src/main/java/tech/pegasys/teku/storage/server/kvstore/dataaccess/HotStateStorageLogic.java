@@ -0,0 +1,302 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory.STORAGE;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.schema.SchemaCombined;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotStateDiff;
+
+/**
+ * Stores hot states either as full snapshots or as {@link HotStateDiff}s against the latest
+ * finalized state.
+ *
+ * <p>Consecutive hot states share most of their tree with the finalized state (e.g. the validator
+ * registry), so a diff only records the subtrees which have changed. New diffs are always relative
+ * to the latest finalized state. When that state changes, the remaining diffs are rewritten
+ * against the new one a few at a time by later updates, so finalization doesn't pay for every
+ * stored hot state. Until then the previous finalized states are kept in memory and diffs are
+ * applied to whichever base state they were created against. At most {@link
+ * #MAX_PREVIOUS_FINALIZED_STATES} are kept, diffs against an older state can no longer be read and
+ * are deleted when they are reached, leaving the state to be regenerated from blocks. Diffs are
+ * still read and maintained when writing them is disabled so that the option can be switched off
+ * for an existing database.
+ */
+class HotStateStorageLogic {
+  private static final Logger LOG = LogManager.getLogger();
+  static final int MAX_DIFFS_REBASED_PER_UPDATE = 32;
+  static final int MAX_PREVIOUS_FINALIZED_STATES = 2;
+
+  private final boolean diffsEnabled;
+  private final LabelledMetric<Counter> hotStatesStoredCounter;
+  private final LabelledMetric<Counter> hotStateBytesStoredCounter;
+
+  // Only holds states that were passed in as the new finalized state or loaded from the database,
+  // so it is shared with the in-memory store rather than being an additional copy
+  private final AtomicReference<Optional<BeaconState>> latestFinalizedState =
+      new AtomicReference<>(Optional.empty());
+  // Previous finalized states by state root, kept until no stored diff is relative to them
+  private final Map<Bytes32, BeaconState> previousFinalizedStates = new ConcurrentHashMap<>();
+  // The new finalized state of an update whose transaction may not have been committed yet. Only
+  // used to read diffs relative to it, which can't be visible until the transaction is committed.
+  private final AtomicReference<Optional<BeaconState>> pendingFinalizedState =
+      new AtomicReference<>(Optional.empty());
+
+  // Only accessed while writing changes
+  private final Deque<Bytes32> previousFinalizedStateRoots = new ArrayDeque<>();
+  private final Deque<Bytes32> diffsToRebase = new ArrayDeque<>();
+  // Diffs written before a restart may be relative to a finalized state that is no longer known
+  private boolean rebaseScanRequired = true;
+
+  HotStateStorageLogic(final MetricsSystem metricsSystem, final boolean diffsEnabled) {
+    this.diffsEnabled = diffsEnabled;
+    this.hotStatesStoredCounter =
+        metricsSystem.createLabelledCounter(
+            STORAGE,
+            "hot_states_stored_total",
+            "Number of hot states stored by storage format",
+            "format");
+    this.hotStateBytesStoredCounter =
+        metricsSystem.createLabelledCounter(
+            STORAGE,
+            "hot_state_bytes_stored_total",
+            "Number of serialized hot state bytes stored by storage format",
+            "format");
+  }
+
+  Optional<BeaconState> getHotState(
+      final KvStoreAccessor db, final SchemaCombined schema, final Bytes32 root) {
+    final Optional<HotStateDiff> maybeDiff = db.get(schema.getColumnHotStateDiffsByRoot(), root);
+    if (maybeDiff.isEmpty()) {
+      return db.get(schema.getColumnHotStatesByRoot(), root);
+    }
+    final HotStateDiff diff = maybeDiff.get();
+    final Optional<BeaconState> state = getBaseState(db, schema, diff).flatMap(diff::apply);
+    if (state.isEmpty()) {
+      LOG.debug(
+          "Unable to apply hot state diff for block {}, base state {} is not available",
+          root,
+          diff.getBaseStateRoot());
+    }
+    return state;
+  }
+
+  private Optional<BeaconState> getBaseState(
+      final KvStoreAccessor db, final SchemaCombined schema, final HotStateDiff diff) {
+    final BeaconState previousState = previousFinalizedStates.get(diff.getBaseStateRoot());
+    if (previousState != null) {
+      return Optional.of(previousState);
+    }
+    final Optional<BeaconState> pendingState =
+        pendingFinalizedState
+            .get()
+            .filter(state -> state.hashTreeRoot().equals(diff.getBaseStateRoot()));
+    if (pendingState.isPresent()) {
+      return pendingState;
+    }
+    return getLatestFinalizedState(db, schema);
+  }
+
+  private Optional<BeaconState> getLatestFinalizedState(
+      final KvStoreAccessor db, final SchemaCombined schema) {
+    final Optional<BeaconState> cachedState = latestFinalizedState.get();
+    if (cachedState.isPresent()) {
+      return cachedState;
+    }
+    final Optional<BeaconState> loadedState = db.get(schema.getVariableLatestFinalizedState());
+    if (loadedState.isPresent()) {
+      // Don't replace a finalized state published by an update while the state was loading
+      latestFinalizedState.compareAndSet(Optional.empty(), loadedState);
+    }
+    return latestFinalizedState.get().or(() -> loadedState);
+  }
+
+  HotStateUpdater updater() {
+    return new HotStateUpdater();
+  }
+
+  class HotStateUpdater {
+    private final Map<Bytes32, BeaconState> addedStates = new LinkedHashMap<>();
+    private final Set<Bytes32> deletedStates = new HashSet<>();
+    private Optional<BeaconState> newFinalizedState = Optional.empty();
+    private Optional<BeaconState> replacedFinalizedState = Optional.empty();
+
+    void addHotState(final Bytes32 blockRoot, final BeaconState state) {
+      deletedStates.remove(blockRoot);
+      addedStates.put(blockRoot, state);
+    }
+
+    void deleteHotState(final Bytes32 blockRoot) {
+      addedStates.remove(blockRoot);
+      deletedStates.add(blockRoot);
+    }
+
+    void setLatestFinalizedState(final BeaconState state) {
+      newFinalizedState = Optional.of(state);
+    }
+
+    /** Writes the pending changes to {@code transaction}, must be called before committing it. */
+    void writeChanges(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema) {
+      synchronized (HotStateStorageLogic.this) {
+        deletedStates.forEach(
+            blockRoot -> {
+              transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+              transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+            });
+        final Optional<BeaconState> latestState;
+        if (newFinalizedState.isPresent()) {
+          // Read before the transaction replaces the stored finalized state
+          replacedFinalizedState = getLatestFinalizedState(db, schema);
+          pendingFinalizedState.set(newFinalizedState);
+          latestState = newFinalizedState;
+        } else {
+          latestState = getLatestFinalizedState(db, schema);
+        }
+        rebaseStoredDiffs(db, transaction, schema, latestState);
+        if (addedStates.isEmpty()) {
+          return;
+        }
+        final Optional<BeaconState> baseState = diffsEnabled ? latestState : Optional.empty();
+        addedStates.forEach(
+            (blockRoot, state) -> storeHotState(transaction, schema, blockRoot, state, baseState));
+      }
+    }
+
+    private void rebaseStoredDiffs(
+        final KvStoreAccessor db,
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final Optional<BeaconState> latestState) {
+      if (rebaseScanRequired && newFinalizedState.isEmpty()) {
+        // Only the keys are read here, the diffs are loaded as they are rebased
+        rebaseScanRequired = false;
+        diffsToRebase.clear();
+        try (final Stream<Bytes32> storedRoots =
+            db.streamKeys(schema.getColumnHotStateDiffsByRoot())) {
+          storedRoots.forEach(diffsToRebase::add);
+        }
+      }
+      if (diffsToRebase.isEmpty() || latestState.isEmpty()) {
+        return;
+      }
+      final Bytes32 latestStateRoot = latestState.get().hashTreeRoot();
+      int rebasedCount = 0;
+      while (rebasedCount < MAX_DIFFS_REBASED_PER_UPDATE && !diffsToRebase.isEmpty()) {
+        final Bytes32 blockRoot = diffsToRebase.poll();
+        if (deletedStates.contains(blockRoot) || addedStates.containsKey(blockRoot)) {
+          continue;
+        }
+        final Optional<HotStateDiff> maybeDiff =
+            db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+        if (maybeDiff.isEmpty() || maybeDiff.get().getBaseStateRoot().equals(latestStateRoot)) {
+          continue;
+        }
+        rebasedCount++;
+        final HotStateDiff diff = maybeDiff.get();
+        final Optional<BeaconState> state = getBaseState(db, schema, diff).flatMap(diff::apply);
+        if (state.isPresent()) {
+          storeHotState(transaction, schema, blockRoot, state.get(), latestState);
+        } else {
+          // The state can still be regenerated from blocks
+          transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+        }
+      }
+    }
+
+    private void storeHotState(
+        final KvStoreTransaction transaction,
+        final SchemaCombined schema,
+        final Bytes32 blockRoot,
+        final BeaconState state,
+        final Optional<BeaconState> baseState) {
+      final Optional<HotStateDiff> diff =
+          diffsEnabled
+              ? baseState.flatMap(base -> HotStateDiff.create(base, state))
+              : Optional.empty();
+      if (diff.isPresent()) {
+        transaction.put(schema.getColumnHotStateDiffsByRoot(), blockRoot, diff.get());
+        transaction.delete(schema.getColumnHotStatesByRoot(), blockRoot);
+        hotStatesStoredCounter.labels("diff").inc();
+        hotStateBytesStoredCounter.labels("diff").inc(diff.get().getSerializedSize());
+      } else {
+        transaction.put(schema.getColumnHotStatesByRoot(), blockRoot, state);
+        transaction.delete(schema.getColumnHotStateDiffsByRoot(), blockRoot);
+        hotStatesStoredCounter.labels("snapshot").inc();
+        hotStateBytesStoredCounter
+            .labels("snapshot")
+            .inc(state.getSchema().getSszSize(state.getBackingNode()));
+      }
+    }
+
+    /** Called once the transaction has been committed. */
+    void commit() {
+      synchronized (HotStateStorageLogic.this) {
+        // Rebased diffs are now stored, so the previous base states are no longer needed
+        if (!rebaseScanRequired && diffsToRebase.isEmpty()) {
+          previousFinalizedStates.clear();
+          previousFinalizedStateRoots.clear();
+        }
+        newFinalizedState.ifPresent(this::publishNewFinalizedState);
+      }
+    }
+
+    // Only published once the transaction is committed so a failed update can't leave new diffs
+    // relative to a finalized state which was never stored
+    private void publishNewFinalizedState(final BeaconState state) {
+      final Bytes32 stateRoot = state.hashTreeRoot();
+      replacedFinalizedState
+          .filter(previousState -> !previousState.hashTreeRoot().equals(stateRoot))
+          .ifPresent(this::addPreviousFinalizedState);
+      latestFinalizedState.set(Optional.of(state));
+      pendingFinalizedState.set(Optional.empty());
+      rebaseScanRequired = true;
+    }
+
+    private void addPreviousFinalizedState(final BeaconState state) {
+      final Bytes32 stateRoot = state.hashTreeRoot();
+      if (previousFinalizedStates.put(stateRoot, state) == null) {
+        previousFinalizedStateRoots.add(stateRoot);
+      }
+      while (previousFinalizedStateRoots.size() > MAX_PREVIOUS_FINALIZED_STATES) {
+        final Bytes32 evictedRoot = previousFinalizedStateRoots.poll();
+        previousFinalizedStates.remove(evictedRoot);
+        LOG.debug(
+            "Dropped finalized state {} before all hot state diffs were rebased from it",
+            evictedRoot);
+      }
+    }
+  }
+}
@@ -39,6 +39,7 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 
 public interface KvStoreCombinedDao extends AutoCloseable {
 
@@ -63,6 +64,9 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Stream<Map.Entry<Bytes, Bytes>> streamHotBlocksAsSsz();
 
+  @MustBeClosed
+  Stream<Bytes32> streamHotBlockRoots();
+
   Optional<SignedBeaconBlock> getFinalizedBlock(final Bytes32 root);
 
   Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(UInt64 slot);
@@ -109,6 +113,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<BlockCheckpoints> getHotBlockCheckpointEpochs(Bytes32 root);
 
+  Optional<HotBlockMetadataSnapshot> getHotBlockMetadataSnapshot();
+
   Optional<BeaconState> getHotState(Bytes32 root);
 
   Optional<SignedBlindedExecutionPayloadEnvelope> getBlindedExecutionPayloadEnvelope(Bytes32 root);
@@ -230,6 +236,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void setCustodyGroupCount(UInt64 custodyGroupCount);
 
+    void setHotBlockMetadataSnapshot(HotBlockMetadataSnapshot snapshot);
+
     void setWeakSubjectivityCheckpoint(Checkpoint checkpoint);
 
     void clearWeakSubjectivityCheckpoint();
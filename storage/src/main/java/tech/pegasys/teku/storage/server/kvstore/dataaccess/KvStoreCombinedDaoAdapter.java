@@ -46,6 +46,7 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4FinalizedKvStoreDao
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.V4HotKvStoreDao.V4HotUpdater;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 
 public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4MigratableSourceDao {
   private final V4HotKvStoreDao hotDao;
@@ -107,6 +108,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return hotDao.getHotBlockCheckpointEpochs(root);
   }
 
+  @Override
+  public Optional<HotBlockMetadataSnapshot> getHotBlockMetadataSnapshot() {
+    return hotDao.getHotBlockMetadataSnapshot();
+  }
+
   @Override
   public Optional<BeaconState> getHotState(final Bytes32 root) {
     return hotDao.getHotState(root);
@@ -134,6 +140,12 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return hotDao.streamHotBlocks();
   }
 
+  @Override
+  @MustBeClosed
+  public Stream<Bytes32> streamHotBlockRoots() {
+    return hotDao.streamHotBlockRoots();
+  }
+
   @Override
   @MustBeClosed
   public Stream<Map.Entry<Bytes, Bytes>> streamHotBlocksAsSsz() {
@@ -530,6 +542,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       hotUpdater.setCustodyGroupCount(custodyGroupCount);
     }
 
+    @Override
+    public void setHotBlockMetadataSnapshot(final HotBlockMetadataSnapshot snapshot) {
+      hotUpdater.setHotBlockMetadataSnapshot(snapshot);
+    }
+
     @Override
     public void setWeakSubjectivityCheckpoint(final Checkpoint checkpoint) {
       hotUpdater.setWeakSubjectivityCheckpoint(checkpoint);
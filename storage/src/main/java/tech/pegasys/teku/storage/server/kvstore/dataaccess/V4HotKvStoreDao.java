@@ -40,6 +40,7 @@ import tech.pegasys.teku.storage.server.kvstore.dataaccess.KvStoreCombinedDao.Ho
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 import tech.pegasys.teku.storage.server.kvstore.schema.SchemaHotAdapter;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 
 public class V4HotKvStoreDao {
   // Persistent data
@@ -100,6 +101,15 @@ public class V4HotKvStoreDao {
     return db.stream(schema.getColumnHotBlocksByRoot()).map(ColumnEntry::getValue);
   }
 
+  @MustBeClosed
+  public Stream<Bytes32> streamHotBlockRoots() {
+    return db.streamKeys(schema.getColumnHotBlocksByRoot());
+  }
+
+  public Optional<HotBlockMetadataSnapshot> getHotBlockMetadataSnapshot() {
+    return db.get(schema.getVariableHotBlockMetadataSnapshot());
+  }
+
   @MustBeClosed
   public Stream<Map.Entry<Bytes, Bytes>> streamHotBlocksAsSsz() {
     return streamRawColumn(schema.getColumnHotBlocksByRoot()).map(entry -> entry);
@@ -244,6 +254,11 @@ public class V4HotKvStoreDao {
       transaction.put(schema.getVariableCustodyGroupCount(), custodyGroupCount);
     }
 
+    @Override
+    public void setHotBlockMetadataSnapshot(final HotBlockMetadataSnapshot snapshot) {
+      transaction.put(schema.getVariableHotBlockMetadataSnapshot(), snapshot);
+    }
+
     @Override
     public void setWeakSubjectivityCheckpoint(final Checkpoint checkpoint) {
       transaction.put(schema.getVariableWeakSubjectivityCheckpoint(), checkpoint);
@@ -33,6 +33,8 @@ import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotStateDiff;
 
 public interface SchemaCombined extends Schema {
   // Columns
@@ -51,6 +53,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  KvStoreColumn<Bytes32, HotStateDiff> getColumnHotStateDiffsByRoot();
+
   KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot();
 
   KvStoreColumn<UInt64, SignedBeaconBlock> getColumnFinalizedBlocksBySlot();
@@ -105,6 +109,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<UInt64> getVariableCustodyGroupCount();
 
+  KvStoreVariable<HotBlockMetadataSnapshot> getVariableHotBlockMetadataSnapshot();
+
   KvStoreVariable<UInt64> getVariableEarliestBlockSlot();
 
   KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
@@ -30,6 +30,7 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
 
 public class SchemaHotAdapter implements Schema {
   private final SchemaCombined delegate;
@@ -95,6 +96,10 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getVariableCustodyGroupCount();
   }
 
+  public KvStoreVariable<HotBlockMetadataSnapshot> getVariableHotBlockMetadataSnapshot() {
+    return delegate.getVariableHotBlockMetadataSnapshot();
+  }
+
   public KvStoreVariable<BeaconState> getVariableLatestFinalizedState() {
     return delegate.getVariableLatestFinalizedState();
   }
@@ -143,6 +148,7 @@ public class SchemaHotAdapter implements Schema {
         .put("FINALIZED_DEPOSIT_SNAPSHOT", getVariableFinalizedDepositSnapshot())
         .put("LATEST_CANONICAL_BLOCK_ROOT", getVariableLatestCanonicalBlockRoot())
         .put("CUSTODY_GROUP_COUNT", getVariableCustodyGroupCount())
+        .put("HOT_BLOCK_METADATA_SNAPSHOT", getVariableHotBlockMetadataSnapshot())
         .build();
   }
 
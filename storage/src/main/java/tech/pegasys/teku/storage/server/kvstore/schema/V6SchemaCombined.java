@@ -19,6 +19,8 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSIT_SNAPSHOT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.HOT_STATE_DIFF_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.MIN_GENESIS_TIME_BLOCK_EVENT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.SLOT_AND_BLOCK_ROOT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
@@ -40,6 +42,8 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotBlockMetadataSnapshot;
+import tech.pegasys.teku.storage.server.kvstore.serialization.HotStateDiff;
 import tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer;
 
 public abstract class V6SchemaCombined implements SchemaCombined {
@@ -64,6 +68,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
           KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+  private static final KvStoreColumn<Bytes32, HotStateDiff> HOT_STATE_DIFFS_BY_ROOT =
+      KvStoreColumn.create(8, BYTES32_SERIALIZER, HOT_STATE_DIFF_SERIALIZER);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -88,6 +94,8 @@ public abstract class V6SchemaCombined implements SchemaCombined {
       KvStoreVariable.create(11, BYTES32_SERIALIZER);
   private static final KvStoreVariable<UInt64> CUSTODY_GROUP_COUNT =
       KvStoreVariable.create(12, UINT64_SERIALIZER);
+  private static final KvStoreVariable<HotBlockMetadataSnapshot> HOT_BLOCK_METADATA_SNAPSHOT =
+      KvStoreVariable.create(13, HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER);
 
   private final KvStoreVariable<UInt64> optimisticTransitionBlockSlot;
   private final KvStoreVariable<UInt64> earliestBlobSidecarSlot;
@@ -161,6 +169,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<Bytes32, HotStateDiff> getColumnHotStateDiffsByRoot() {
+    return HOT_STATE_DIFFS_BY_ROOT;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -236,6 +249,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return CUSTODY_GROUP_COUNT;
   }
 
+  @Override
+  public KvStoreVariable<HotBlockMetadataSnapshot> getVariableHotBlockMetadataSnapshot() {
+    return HOT_BLOCK_METADATA_SNAPSHOT;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableEarliestBlockSlot() {
     return earliestBlockSlot;
@@ -256,6 +274,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("HOT_STATE_DIFFS_BY_ROOT", getColumnHotStateDiffsByRoot())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put(
@@ -287,6 +306,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("EARLIEST_BLOCK_SLOT_AVAILABLE", getVariableEarliestBlockSlot())
         .put("LATEST_CANONICAL_BLOCK_ROOT", getVariableLatestCanonicalBlockRoot())
         .put("CUSTODY_GROUP_COUNT", getVariableCustodyGroupCount())
+        .put("HOT_BLOCK_METADATA_SNAPSHOT", getVariableHotBlockMetadataSnapshot())
         .put("FIRST_CUSTODY_INCOMPLETE_SLOT", getVariableFirstCustodyIncompleteSlot())
         .put("EARLIEST_AVAILABLE_DATA_COLUMN_SLOT", getVariableEarliestAvailableDataColumnSlot())
         .put("LAST_DATA_COLUMN_SLOT_PRUNED", getVariableLastDataColumnSidecarPrunedSlot())
@@ -0,0 +1,29 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import java.util.List;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+/**
+ * The fork choice metadata of every hot block, recorded against the finalized checkpoint it was
+ * taken at.
+ *
+ * <p>Loading this snapshot avoids reading and deserializing every hot block on startup. It is only
+ * usable while the finalized checkpoint matches and has to be reconciled with the hot blocks that
+ * were added or pruned after it was written.
+ */
+public record HotBlockMetadataSnapshot(
+    Checkpoint finalizedCheckpoint, List<StoredBlockMetadata> blocks) {}
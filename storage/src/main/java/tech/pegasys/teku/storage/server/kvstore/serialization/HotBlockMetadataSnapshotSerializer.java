@@ -0,0 +1,161 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import org.apache.tuweni.ssz.SSZReader;
+import org.apache.tuweni.ssz.SSZWriter;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.api.GloasForkChoiceRebuildData;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+/** Writes the snapshot followed by a CRC32 of its content so truncated writes are detected. */
+class HotBlockMetadataSnapshotSerializer implements KvStoreSerializer<HotBlockMetadataSnapshot> {
+  private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+  @Override
+  public HotBlockMetadataSnapshot deserialize(final byte[] data) {
+    checkArgument(data.length > CHECKSUM_SIZE, "Hot block metadata snapshot is truncated");
+    final Bytes content = Bytes.wrap(data, 0, data.length - CHECKSUM_SIZE);
+    final long checksum =
+        Integer.toUnsignedLong(
+            Bytes.wrap(data, data.length - CHECKSUM_SIZE, CHECKSUM_SIZE).toInt());
+    checkArgument(
+        checksum == calculateChecksum(content), "Hot block metadata snapshot checksum mismatch");
+    return SSZ.decode(
+        content,
+        reader -> {
+          final Checkpoint finalizedCheckpoint =
+              new Checkpoint(
+                  UInt64.fromLongBits(reader.readUInt64()),
+                  Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE)));
+          final int blockCount = reader.readInt32();
+          final List<StoredBlockMetadata> blocks = new ArrayList<>(blockCount);
+          for (int i = 0; i < blockCount; i++) {
+            blocks.add(readBlockMetadata(reader));
+          }
+          return new HotBlockMetadataSnapshot(finalizedCheckpoint, blocks);
+        });
+  }
+
+  @Override
+  public byte[] serialize(final HotBlockMetadataSnapshot value) {
+    final Bytes content =
+        SSZ.encode(
+            writer -> {
+              writer.writeUInt64(value.finalizedCheckpoint().getEpoch().longValue());
+              writer.writeFixedBytes(value.finalizedCheckpoint().getRoot());
+              writer.writeInt32(value.blocks().size());
+              value.blocks().forEach(block -> writeBlockMetadata(writer, block));
+            });
+    return Bytes.concatenate(content, Bytes.ofUnsignedInt(calculateChecksum(content)))
+        .toArrayUnsafe();
+  }
+
+  private static StoredBlockMetadata readBlockMetadata(final SSZReader reader) {
+    final UInt64 blockSlot = UInt64.fromLongBits(reader.readUInt64());
+    final Bytes32 blockRoot = readBytes32(reader);
+    final Bytes32 parentRoot = readBytes32(reader);
+    final Bytes32 stateRoot = readBytes32(reader);
+    final Optional<UInt64> executionBlockNumber = readOptionalUInt64(reader);
+    final Optional<Bytes32> executionBlockHash =
+        reader.readBoolean() ? Optional.of(readBytes32(reader)) : Optional.empty();
+    final Optional<UInt64> executionGasLimit = readOptionalUInt64(reader);
+    final Optional<BlockCheckpoints> checkpointEpochs =
+        reader.readBoolean()
+            ? Optional.of(
+                KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER.deserialize(
+                    reader.readBytes().toArrayUnsafe()))
+            : Optional.empty();
+    final Optional<GloasForkChoiceRebuildData> gloasForkChoiceRebuildData =
+        reader.readBoolean()
+            ? Optional.of(
+                new GloasForkChoiceRebuildData(
+                    readBytes32(reader),
+                    readBytes32(reader),
+                    readOptionalUInt64(reader),
+                    readOptionalUInt64(reader)))
+            : Optional.empty();
+    return new StoredBlockMetadata(
+        blockSlot,
+        blockRoot,
+        parentRoot,
+        stateRoot,
+        executionBlockNumber,
+        executionBlockHash,
+        executionGasLimit,
+        checkpointEpochs,
+        gloasForkChoiceRebuildData);
+  }
+
+  private static void writeBlockMetadata(
+      final SSZWriter writer, final StoredBlockMetadata block) {
+    writer.writeUInt64(block.getBlockSlot().longValue());
+    writer.writeFixedBytes(block.getBlockRoot());
+    writer.writeFixedBytes(block.getParentRoot());
+    writer.writeFixedBytes(block.getStateRoot());
+    writeOptionalUInt64(writer, block.getExecutionBlockNumber());
+    writer.writeBoolean(block.getExecutionBlockHash().isPresent());
+    block.getExecutionBlockHash().ifPresent(writer::writeFixedBytes);
+    writeOptionalUInt64(writer, block.getExecutionGasLimit());
+    writer.writeBoolean(block.getCheckpointEpochs().isPresent());
+    block
+        .getCheckpointEpochs()
+        .ifPresent(
+            checkpoints ->
+                writer.writeBytes(
+                    KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER.serialize(checkpoints)));
+    writer.writeBoolean(block.getGloasForkChoiceRebuildData().isPresent());
+    block
+        .getGloasForkChoiceRebuildData()
+        .ifPresent(
+            rebuildData -> {
+              writer.writeFixedBytes(rebuildData.payloadParentBlockHash());
+              writer.writeFixedBytes(rebuildData.payloadBlockHash());
+              writeOptionalUInt64(writer, rebuildData.payloadBlockNumber());
+              writeOptionalUInt64(writer, rebuildData.payloadGasLimit());
+            });
+  }
+
+  private static Bytes32 readBytes32(final SSZReader reader) {
+    return Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+  }
+
+  private static Optional<UInt64> readOptionalUInt64(final SSZReader reader) {
+    return reader.readBoolean()
+        ? Optional.of(UInt64.fromLongBits(reader.readUInt64()))
+        : Optional.empty();
+  }
+
+  private static void writeOptionalUInt64(final SSZWriter writer, final Optional<UInt64> value) {
+    writer.writeBoolean(value.isPresent());
+    value.ifPresent(v -> writer.writeUInt64(v.longValue()));
+  }
+
+  private static long calculateChecksum(final Bytes content) {
+    final CRC32 crc = new CRC32();
+    crc.update(content.toArrayUnsafe());
+    return crc.getValue();
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.BranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
+import tech.pegasys.teku.infrastructure.ssz.tree.LeafDataNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeStore;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * A hot state stored as the parts of its tree which differ from a base state.
+ *
+ * <p>The diff is recorded by storing the state's backing tree while skipping any branch whose root
+ * matches the node at the same generalized index in the base state. Loading the state reads the
+ * recorded nodes first and falls back to the base state for everything that was skipped, so the
+ * base state must have the same schema and be available when the diff is applied. Unchanged SSZ
+ * objects are shared with the base state's tree rather than being rebuilt.
+ */
+public class HotStateDiff {
+  private static final int MAX_BRANCH_LEVELS_SKIPPED = 5;
+
+  private final Bytes32 stateRoot;
+  private final Bytes32 baseStateRoot;
+  private final Map<Bytes32, TreeNodeSource.CompressedBranchInfo> branches;
+  private final Map<Bytes32, Bytes> leaves;
+
+  HotStateDiff(
+      final Bytes32 stateRoot,
+      final Bytes32 baseStateRoot,
+      final Map<Bytes32, TreeNodeSource.CompressedBranchInfo> branches,
+      final Map<Bytes32, Bytes> leaves) {
+    this.stateRoot = stateRoot;
+    this.baseStateRoot = baseStateRoot;
+    this.branches = branches;
+    this.leaves = leaves;
+  }
+
+  /**
+   * Creates a diff of {@code state} against {@code baseState}.
+   *
+   * @return the diff or empty if the states have different schemas (e.g. at a fork transition)
+   */
+  public static Optional<HotStateDiff> create(
+      final BeaconState baseState, final BeaconState state) {
+    if (!state.getBeaconStateSchema().equals(baseState.getBeaconStateSchema())) {
+      return Optional.empty();
+    }
+    final DiffNodeStore nodeStore = new DiffNodeStore(baseState.getBackingNode());
+    state
+        .getBeaconStateSchema()
+        .storeBackingNodes(
+            nodeStore,
+            MAX_BRANCH_LEVELS_SKIPPED,
+            GIndexUtil.SELF_G_INDEX,
+            state.getBackingNode());
+    return Optional.of(
+        new HotStateDiff(
+            state.hashTreeRoot(), baseState.hashTreeRoot(), nodeStore.branches, nodeStore.leaves));
+  }
+
+  /**
+   * Rebuilds the state by applying this diff to {@code baseState}.
+   *
+   * @return the rebuilt state or empty if {@code baseState} is not the state the diff was created
+   *     against
+   */
+  public Optional<BeaconState> apply(final BeaconState baseState) {
+    if (!baseState.hashTreeRoot().equals(baseStateRoot)) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        baseState
+            .getBeaconStateSchema()
+            .load(
+                new DiffNodeSource(baseState.getBackingNode()),
+                stateRoot,
+                GIndexUtil.SELF_G_INDEX));
+  }
+
+  public Bytes32 getStateRoot() {
+    return stateRoot;
+  }
+
+  public Bytes32 getBaseStateRoot() {
+    return baseStateRoot;
+  }
+
+  Map<Bytes32, TreeNodeSource.CompressedBranchInfo> getBranches() {
+    return branches;
+  }
+
+  Map<Bytes32, Bytes> getLeaves() {
+    return leaves;
+  }
+
+  public int getBranchNodeCount() {
+    return branches.size();
+  }
+
+  public int getLeafNodeCount() {
+    return leaves.size();
+  }
+
+  /** Returns the size of this diff as written by {@link HotStateDiffSerializer}. */
+  public long getSerializedSize() {
+    long size = 2L * Bytes32.SIZE + 2L * Integer.BYTES;
+    for (TreeNodeSource.CompressedBranchInfo branch : branches.values()) {
+      size += Bytes32.SIZE + 2L * Integer.BYTES + (long) branch.getChildren().length * Bytes32.SIZE;
+    }
+    for (Bytes data : leaves.values()) {
+      size += Bytes32.SIZE + Integer.BYTES + data.size();
+    }
+    return size;
+  }
+
+  private static Optional<TreeNode> findNode(final TreeNode rootNode, final long gIndex) {
+    TreeNode node = rootNode;
+    for (int depth = GIndexUtil.gIdxGetDepth(gIndex) - 1; depth >= 0; depth--) {
+      if (!(node instanceof BranchNode branchNode)) {
+        return Optional.empty();
+      }
+      node = ((gIndex >>> depth) & 1) == 0 ? branchNode.left() : branchNode.right();
+    }
+    return Optional.of(node);
+  }
+
+  private static Optional<TreeNode> findNode(
+      final TreeNode rootNode, final Bytes32 root, final long gIndex) {
+    return findNode(rootNode, gIndex).filter(node -> node.hashTreeRoot().equals(root));
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final HotStateDiff that = (HotStateDiff) o;
+    return Objects.equals(stateRoot, that.stateRoot)
+        && Objects.equals(baseStateRoot, that.baseStateRoot)
+        && Objects.equals(branches, that.branches)
+        && Objects.equals(leaves, that.leaves);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(stateRoot, baseStateRoot, branches, leaves);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("stateRoot", stateRoot)
+        .add("baseStateRoot", baseStateRoot)
+        .add("branchNodes", branches.size())
+        .add("leafNodes", leaves.size())
+        .toString();
+  }
+
+  private static class DiffNodeStore implements TreeNodeStore {
+    private final TreeNode baseNode;
+    private final Map<Bytes32, TreeNodeSource.CompressedBranchInfo> branches =
+        new LinkedHashMap<>();
+    private final Map<Bytes32, Bytes> leaves = new LinkedHashMap<>();
+    private int skippedBranchNodes = 0;
+
+    private DiffNodeStore(final TreeNode baseNode) {
+      this.baseNode = baseNode;
+    }
+
+    @Override
+    public boolean canSkipBranch(final Bytes32 root, final long gIndex) {
+      if (findNode(baseNode, root, gIndex).isPresent()) {
+        skippedBranchNodes++;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void storeBranchNode(
+        final Bytes32 root, final long gIndex, final int depth, final Bytes32[] children) {
+      branches.putIfAbsent(root, new TreeNodeSource.CompressedBranchInfo(depth, children));
+    }
+
+    @Override
+    public void storeLeafNode(final TreeNode treeNode, final long gIndex) {
+      checkArgument(treeNode instanceof LeafDataNode, "Can't store a non-leaf node");
+      final Bytes data = ((LeafDataNode) treeNode).getData();
+      // Leaves of up to 32 bytes are their own root so only need storing when they are larger
+      if (data.size() > Bytes32.SIZE && !treeNode.hashTreeRoot().isZero()) {
+        leaves.putIfAbsent(treeNode.hashTreeRoot(), data);
+      }
+    }
+
+    @Override
+    public Collection<? extends Bytes32> getStoredBranchRoots() {
+      return branches.keySet();
+    }
+
+    @Override
+    public int getStoredBranchNodeCount() {
+      return branches.size();
+    }
+
+    @Override
+    public int getSkippedBranchNodeCount() {
+      return skippedBranchNodes;
+    }
+
+    @Override
+    public int getStoredLeafNodeCount() {
+      return leaves.size();
+    }
+  }
+
+  private class DiffNodeSource implements TreeNodeSource {
+    private final TreeNode baseNode;
+
+    private DiffNodeSource(final TreeNode baseNode) {
+      this.baseNode = baseNode;
+    }
+
+    @Override
+    public Optional<TreeNode> loadExistingNode(final Bytes32 rootHash, final long gIndex) {
+      return findNode(baseNode, rootHash, gIndex);
+    }
+
+    @Override
+    public CompressedBranchInfo loadBranchNode(final Bytes32 rootHash, final long gIndex) {
+      final CompressedBranchInfo branch = branches.get(rootHash);
+      if (branch != null) {
+        return branch;
+      }
+      return findNode(baseNode, rootHash, gIndex)
+          .filter(node -> node instanceof BranchNode)
+          .map(node -> (BranchNode) node)
+          .map(
+              node ->
+                  new CompressedBranchInfo(
+                      1,
+                      new Bytes32[] {node.left().hashTreeRoot(), node.right().hashTreeRoot()}))
+          .orElseThrow(
+              () ->
+                  new IllegalStateException(
+                      "Unknown branch node: " + rootHash + " at " + gIndex));
+    }
+
+    @Override
+    public Bytes loadLeafNode(final Bytes32 rootHash, final long gIndex) {
+      final Bytes data = leaves.get(rootHash);
+      if (data != null) {
+        return data;
+      }
+      return findNode(baseNode, rootHash, gIndex)
+          .filter(node -> node instanceof LeafDataNode)
+          .map(node -> ((LeafDataNode) node).getData())
+          .filter(baseData -> baseData.size() > Bytes32.SIZE)
+          .orElse(rootHash);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.ssz.SSZ;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSource.CompressedBranchInfo;
+
+class HotStateDiffSerializer implements KvStoreSerializer<HotStateDiff> {
+
+  @Override
+  public HotStateDiff deserialize(final byte[] data) {
+    return SSZ.decode(
+        Bytes.wrap(data),
+        reader -> {
+          final Bytes32 stateRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          final Bytes32 baseStateRoot = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+          final int branchCount = reader.readInt32();
+          final Map<Bytes32, CompressedBranchInfo> branches = new LinkedHashMap<>();
+          for (int i = 0; i < branchCount; i++) {
+            final Bytes32 root = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            final int depth = reader.readInt32();
+            final Bytes32[] children = new Bytes32[reader.readInt32()];
+            for (int j = 0; j < children.length; j++) {
+              children[j] = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            }
+            branches.put(root, new CompressedBranchInfo(depth, children));
+          }
+          final int leafCount = reader.readInt32();
+          final Map<Bytes32, Bytes> leaves = new LinkedHashMap<>();
+          for (int i = 0; i < leafCount; i++) {
+            final Bytes32 root = Bytes32.wrap(reader.readFixedBytes(Bytes32.SIZE));
+            leaves.put(root, reader.readFixedBytes(reader.readInt32()));
+          }
+          return new HotStateDiff(stateRoot, baseStateRoot, branches, leaves);
+        });
+  }
+
+  @Override
+  public byte[] serialize(final HotStateDiff value) {
+    final Bytes bytes =
+        SSZ.encode(
+            writer -> {
+              writer.writeFixedBytes(value.getStateRoot());
+              writer.writeFixedBytes(value.getBaseStateRoot());
+              writer.writeInt32(value.getBranches().size());
+              value
+                  .getBranches()
+                  .forEach(
+                      (root, branch) -> {
+                        writer.writeFixedBytes(root);
+                        writer.writeInt32(branch.getDepth());
+                        writer.writeInt32(branch.getChildren().length);
+                        for (Bytes32 child : branch.getChildren()) {
+                          writer.writeFixedBytes(child);
+                        }
+                      });
+              writer.writeInt32(value.getLeaves().size());
+              value
+                  .getLeaves()
+                  .forEach(
+                      (root, data) -> {
+                        writer.writeFixedBytes(root);
+                        writer.writeInt32(data.size());
+                        writer.writeFixedBytes(data);
+                      });
+            });
+    return bytes.toArrayUnsafe();
+  }
+}
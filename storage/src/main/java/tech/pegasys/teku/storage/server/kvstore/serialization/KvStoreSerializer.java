@@ -52,6 +52,9 @@ public interface KvStoreSerializer<T> {
   KvStoreSerializer<Set<Bytes32>> BLOCK_ROOTS_SERIALIZER = new Bytes32SetSerializer();
   KvStoreSerializer<CompressedBranchInfo> COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER =
       new CompressedBranchInfoSerializer();
+  KvStoreSerializer<HotStateDiff> HOT_STATE_DIFF_SERIALIZER = new HotStateDiffSerializer();
+  KvStoreSerializer<HotBlockMetadataSnapshot> HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER =
+      new HotBlockMetadataSnapshotSerializer();
 
   static KvStoreSerializer<VoteTracker> createVoteTrackerSerializer(final Spec spec) {
     return new VoteTrackerSerializer(spec);
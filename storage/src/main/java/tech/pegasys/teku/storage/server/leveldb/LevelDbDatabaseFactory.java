@@ -78,6 +78,7 @@ public class LevelDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final Spec spec) {
     final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
     final KvStoreAccessor db =
@@ -96,6 +97,7 @@ public class LevelDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         spec,
         metricsSystem);
   }
@@ -105,6 +107,7 @@ public class LevelDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
 
@@ -124,6 +127,7 @@ public class LevelDbDatabaseFactory {
         schema,
         stateStorageMode,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         maxKnownNodeCacheSize,
         spec);
   }
@@ -381,7 +381,7 @@ public class LevelDbInstance implements KvStoreAccessor {
     }
   }
 
-  private CustomDBIterator createIterator() {
+  private synchronized CustomDBIterator createIterator() {
     final CustomDBIterator iterator =
         (CustomDBIterator) db.iterator(new ReadOptions().fillCache(false));
     openIterators.add(iterator);
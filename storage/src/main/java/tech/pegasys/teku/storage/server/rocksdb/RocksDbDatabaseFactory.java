@@ -79,6 +79,7 @@ public class RocksDbDatabaseFactory {
       final KvStoreConfiguration hotConfiguration,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final int maxKnownNodeCacheSize,
       final Spec spec) {
 
@@ -98,6 +99,7 @@ public class RocksDbDatabaseFactory {
         schema,
         stateStorageMode,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         maxKnownNodeCacheSize,
         spec);
   }
@@ -109,6 +111,7 @@ public class RocksDbDatabaseFactory {
       final StateStorageMode stateStorageMode,
       final long stateStorageFrequency,
       final boolean storeNonCanonicalBlocks,
+      final boolean hotStateDiffsEnabled,
       final Spec spec) {
 
     final KvStoreAccessor db =
@@ -127,6 +130,7 @@ public class RocksDbDatabaseFactory {
         stateStorageMode,
         stateStorageFrequency,
         storeNonCanonicalBlocks,
+        hotStateDiffsEnabled,
         spec,
         metricsSystem);
   }
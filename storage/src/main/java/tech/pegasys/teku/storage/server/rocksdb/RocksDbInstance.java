@@ -226,11 +226,15 @@ public class RocksDbInstance implements KvStoreAccessor {
             defaultHandle,
             this::getColumnHandleForWrite,
             this::getColumnHandle,
-            openTransactions::remove);
+            this::onTransactionClosed);
     openTransactions.add(tx);
     return tx;
   }
 
+  private synchronized void onTransactionClosed(final RocksDbTransaction transaction) {
+    openTransactions.remove(transaction);
+  }
+
   @MustBeClosed
   private <K, V> Stream<ColumnEntry<K, V>> createStream(
       final KvStoreColumn<K, V> column, final Consumer<RocksIterator> setupIterator) {
@@ -325,15 +329,18 @@ public class RocksDbInstance implements KvStoreAccessor {
   }
 
   @Override
-  public synchronized void close() throws Exception {
-    if (closed.compareAndSet(false, true)) {
-      for (RocksDbTransaction openTransaction : openTransactions) {
-        openTransaction.closeViaDatabase();
-      }
-      db.syncWal();
-      for (final AutoCloseable resource : resources) {
-        resource.close();
-      }
+  public void close() throws Exception {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    final List<RocksDbTransaction> openTransactionsSnapshot;
+    synchronized (this) {
+      openTransactionsSnapshot = new ArrayList<>(openTransactions);
+    }
+    openTransactionsSnapshot.forEach(RocksDbTransaction::closeViaDatabase);
+    db.syncWal();
+    for (final AutoCloseable resource : resources) {
+      resource.close();
     }
   }
 
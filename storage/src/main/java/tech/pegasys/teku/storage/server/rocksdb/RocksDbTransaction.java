@@ -199,14 +199,16 @@ public class RocksDbTransaction implements KvStoreTransaction {
   public void close() {
     lock.lock();
     try {
-      if (!closed) {
-        closed = true;
-        onClosed.accept(this);
-        writeOptions.close();
-        rocksDbTx.close();
+      if (closed) {
+        return;
       }
+      closed = true;
+      writeOptions.close();
+      rocksDbTx.close();
     } finally {
       lock.unlock();
     }
+    // Notify outside the lock so the database monitor is never acquired while holding it
+    onClosed.accept(this);
   }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.protoarray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ForkChoiceNode;
+import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeValidationStatus;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+
+class ProtoNodeTest {
+  private static final Checkpoint CHECKPOINT = new Checkpoint(UInt64.ZERO, Bytes32.ZERO);
+
+  @Test
+  void shouldAdjustWeight() {
+    final ProtoNode node = createNode(UInt64.valueOf(100));
+
+    node.adjustWeight(50);
+    assertThat(node.getWeight()).isEqualTo(UInt64.valueOf(150));
+
+    node.adjustWeight(-120);
+    assertThat(node.getWeight()).isEqualTo(UInt64.valueOf(30));
+  }
+
+  @Test
+  void shouldClampWeightAtZeroOnUnderflow() {
+    final ProtoNode node = createNode(UInt64.valueOf(10));
+
+    node.adjustWeight(-11);
+
+    assertThat(node.getWeight()).isEqualTo(UInt64.ZERO);
+  }
+
+  @Test
+  void shouldClampWeightAtMaxValueOnOverflow() {
+    final ProtoNode node = createNode(UInt64.MAX_VALUE.minus(5));
+
+    node.adjustWeight(6);
+
+    assertThat(node.getWeight()).isEqualTo(UInt64.MAX_VALUE);
+  }
+
+  @Test
+  void shouldCompareWeightsAsUnsigned() {
+    final ProtoNode heavy = createNode(UInt64.valueOf(Long.MAX_VALUE).plus(1));
+    final ProtoNode light = createNode(UInt64.ONE);
+
+    assertThat(heavy.compareWeightTo(light)).isPositive();
+    assertThat(light.compareWeightTo(heavy)).isNegative();
+  }
+
+  @Test
+  void shouldTreatMissingIndicesAsEmpty() {
+    final ProtoNode node = createNode(UInt64.ZERO);
+    assertThat(node.getParentIndex()).isEmpty();
+    assertThat(node.getBestChildIndex()).isEmpty();
+    assertThat(node.getBestDescendantIndex()).isEmpty();
+
+    node.setParentIndex(Optional.of(3));
+    node.setBestChildIndex(4);
+    node.setBestDescendantIndex(Optional.of(5));
+    assertThat(node.getParentIndex()).contains(3);
+    assertThat(node.getBestChildIndex()).contains(4);
+    assertThat(node.getBestDescendantIndexAsInt()).isEqualTo(5);
+
+    node.setBestChildIndex(Optional.empty());
+    assertThat(node.getBestChildIndexAsInt()).isEqualTo(ProtoNode.NO_INDEX);
+  }
+
+  private ProtoNode createNode(final UInt64 weight) {
+    return new ProtoNode(
+        ForkChoiceNode.createBase(Bytes32.ZERO),
+        UInt64.ONE,
+        Bytes32.ZERO,
+        Bytes32.ZERO,
+        Optional.empty(),
+        new BlockCheckpoints(CHECKPOINT, CHECKPOINT, CHECKPOINT, CHECKPOINT),
+        ProtoNode.NO_EXECUTION_BLOCK_NUMBER,
+        ProtoNode.NO_EXECUTION_BLOCK_HASH,
+        ProtoNode.NO_EXECUTION_GAS_LIMIT,
+        weight,
+        Optional.empty(),
+        Optional.empty(),
+        ProtoNodeValidationStatus.VALID);
+  }
+}
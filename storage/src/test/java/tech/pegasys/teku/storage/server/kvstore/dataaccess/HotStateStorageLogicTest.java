@@ -0,0 +1,198 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.dataaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Consumer;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.MockKvStoreInstance;
+import tech.pegasys.teku.storage.server.kvstore.dataaccess.HotStateStorageLogic.HotStateUpdater;
+import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
+
+class HotStateStorageLogicTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final V6SchemaCombinedSnapshot schema = V6SchemaCombinedSnapshot.createV6(spec);
+  private final KvStoreAccessor db =
+      MockKvStoreInstance.createEmpty(schema.getAllColumns(), schema.getAllVariables());
+
+  private final BeaconState finalizedState = dataStructureUtil.randomBeaconState(32);
+  private final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+
+  @Test
+  void shouldStoreHotStateAsDiffWhenEnabled() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    final BeaconState state = advance(finalizedState, 1);
+
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+    update(logic, updater -> updater.addHotState(blockRoot, state));
+
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot)).isPresent();
+    assertThat(db.get(schema.getColumnHotStatesByRoot(), blockRoot)).isEmpty();
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldStoreHotStateAsSnapshotWhenDisabled() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), false);
+    final BeaconState state = advance(finalizedState, 1);
+
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+    update(logic, updater -> updater.addHotState(blockRoot, state));
+
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot)).isEmpty();
+    assertThat(db.get(schema.getColumnHotStatesByRoot(), blockRoot)).contains(state);
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldStoreHotStateAsSnapshotWhenNoFinalizedStateIsAvailable() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+
+    update(logic, updater -> updater.addHotState(blockRoot, finalizedState));
+
+    assertThat(db.get(schema.getColumnHotStatesByRoot(), blockRoot)).contains(finalizedState);
+  }
+
+  @Test
+  void shouldRebaseDiffsWhenFinalizedStateChanges() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    final BeaconState newFinalizedState = advance(finalizedState, 1);
+    final BeaconState state = advance(newFinalizedState, 2);
+
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+    update(logic, updater -> updater.addHotState(blockRoot, state));
+    update(logic, updater -> updater.setLatestFinalizedState(newFinalizedState));
+
+    // Finalization itself doesn't rewrite stored diffs, they remain readable against the old base
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot).orElseThrow())
+        .matches(diff -> diff.getBaseStateRoot().equals(finalizedState.hashTreeRoot()));
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+
+    update(logic, updater -> {});
+
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot).orElseThrow())
+        .matches(diff -> diff.getBaseStateRoot().equals(newFinalizedState.hashTreeRoot()));
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldNotPublishFinalizedStateUntilCommitted() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    final BeaconState state = advance(finalizedState, 2);
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+
+    final HotStateUpdater failedUpdater = logic.updater();
+    failedUpdater.setLatestFinalizedState(advance(finalizedState, 1));
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      failedUpdater.writeChanges(db, transaction, schema);
+    }
+    update(logic, updater -> updater.addHotState(blockRoot, state));
+
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot).orElseThrow())
+        .matches(diff -> diff.getBaseStateRoot().equals(finalizedState.hashTreeRoot()));
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldBoundPreviousFinalizedStatesKeptForRebasing() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    final BeaconState state = advance(finalizedState, 1);
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+    update(logic, updater -> updater.addHotState(blockRoot, state));
+
+    for (int i = 1; i <= HotStateStorageLogic.MAX_PREVIOUS_FINALIZED_STATES; i++) {
+      final BeaconState newFinalizedState = advance(finalizedState, 10 * i);
+      update(logic, updater -> updater.setLatestFinalizedState(newFinalizedState));
+    }
+    assertThat(logic.getHotState(db, schema, blockRoot)).contains(state);
+
+    final BeaconState evictingState =
+        advance(finalizedState, 10 * (HotStateStorageLogic.MAX_PREVIOUS_FINALIZED_STATES + 1));
+    update(logic, updater -> updater.setLatestFinalizedState(evictingState));
+    assertThat(logic.getHotState(db, schema, blockRoot)).isEmpty();
+
+    // The diff can't be rebased without its base state so is removed
+    update(logic, updater -> {});
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot)).isEmpty();
+  }
+
+  @Test
+  void shouldLoadDiffAgainstStoredFinalizedStateAfterRestart() {
+    final BeaconState state = advance(finalizedState, 1);
+    update(
+        new HotStateStorageLogic(new NoOpMetricsSystem(), true),
+        updater -> {
+          updater.setLatestFinalizedState(finalizedState);
+          updater.addHotState(blockRoot, state);
+        });
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.put(schema.getVariableLatestFinalizedState(), finalizedState);
+      transaction.commit();
+    }
+
+    final HotStateStorageLogic restartedLogic =
+        new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    assertThat(restartedLogic.getHotState(db, schema, blockRoot)).contains(state);
+
+    // The finalized state is only loaded once
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      transaction.delete(schema.getVariableLatestFinalizedState());
+      transaction.commit();
+    }
+    assertThat(restartedLogic.getHotState(db, schema, blockRoot)).contains(state);
+  }
+
+  @Test
+  void shouldDeleteHotStateFromBothColumns() {
+    final HotStateStorageLogic logic = new HotStateStorageLogic(new NoOpMetricsSystem(), true);
+    update(logic, updater -> updater.setLatestFinalizedState(finalizedState));
+    update(logic, updater -> updater.addHotState(blockRoot, advance(finalizedState, 1)));
+
+    update(logic, updater -> updater.deleteHotState(blockRoot));
+
+    assertThat(db.get(schema.getColumnHotStateDiffsByRoot(), blockRoot)).isEmpty();
+    assertThat(db.get(schema.getColumnHotStatesByRoot(), blockRoot)).isEmpty();
+    assertThat(logic.getHotState(db, schema, blockRoot)).isEmpty();
+  }
+
+  private void update(final HotStateStorageLogic logic, final Consumer<HotStateUpdater> action) {
+    final HotStateUpdater updater = logic.updater();
+    action.accept(updater);
+    try (final KvStoreTransaction transaction = db.startTransaction()) {
+      updater.writeChanges(db, transaction, schema);
+      transaction.commit();
+    }
+    updater.commit();
+  }
+
+  private BeaconState advance(final BeaconState state, final int slots) {
+    return state.updated(
+        mutable -> {
+          mutable.setSlot(mutable.getSlot().plus(slots));
+          mutable.getBalances().setElement(1, UInt64.valueOf(slots));
+        });
+  }
+}
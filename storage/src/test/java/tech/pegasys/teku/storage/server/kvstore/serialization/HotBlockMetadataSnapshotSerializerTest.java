@@ -0,0 +1,100 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.GloasForkChoiceRebuildData;
+import tech.pegasys.teku.storage.api.StoredBlockMetadata;
+
+class HotBlockMetadataSnapshotSerializerTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalDeneb();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @Test
+  void shouldRoundTripSnapshot() {
+    final HotBlockMetadataSnapshot snapshot =
+        new HotBlockMetadataSnapshot(
+            dataStructureUtil.randomCheckpoint(),
+            List.of(
+                new StoredBlockMetadata(
+                    dataStructureUtil.randomSlot(),
+                    dataStructureUtil.randomBytes32(),
+                    dataStructureUtil.randomBytes32(),
+                    dataStructureUtil.randomBytes32(),
+                    Optional.empty(),
+                    Optional.empty(),
+                    Optional.empty()),
+                new StoredBlockMetadata(
+                    dataStructureUtil.randomSlot(),
+                    dataStructureUtil.randomBytes32(),
+                    dataStructureUtil.randomBytes32(),
+                    dataStructureUtil.randomBytes32(),
+                    Optional.of(dataStructureUtil.randomUInt64()),
+                    Optional.of(dataStructureUtil.randomBytes32()),
+                    Optional.of(dataStructureUtil.randomUInt64()),
+                    Optional.of(randomBlockCheckpoints()),
+                    Optional.of(
+                        new GloasForkChoiceRebuildData(
+                            dataStructureUtil.randomBytes32(),
+                            dataStructureUtil.randomBytes32(),
+                            Optional.of(dataStructureUtil.randomUInt64()),
+                            Optional.empty())))));
+
+    final byte[] serialized = HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.serialize(snapshot);
+
+    assertThat(HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.deserialize(serialized)).isEqualTo(snapshot);
+  }
+
+  @Test
+  void shouldRoundTripEmptySnapshot() {
+    final HotBlockMetadataSnapshot snapshot =
+        new HotBlockMetadataSnapshot(dataStructureUtil.randomCheckpoint(), List.of());
+
+    final byte[] serialized = HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.serialize(snapshot);
+
+    assertThat(HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.deserialize(serialized)).isEqualTo(snapshot);
+  }
+
+  @Test
+  void shouldRejectCorruptedSnapshot() {
+    final byte[] serialized =
+        HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.serialize(
+            new HotBlockMetadataSnapshot(dataStructureUtil.randomCheckpoint(), List.of()));
+    serialized[0] ^= 1;
+
+    assertThatThrownBy(() -> HOT_BLOCK_METADATA_SNAPSHOT_SERIALIZER.deserialize(serialized))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("checksum");
+  }
+
+  private BlockCheckpoints randomBlockCheckpoints() {
+    return new BlockCheckpoints(
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint(),
+        dataStructureUtil.randomCheckpoint());
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class HotStateDiffTest {
+
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState baseState = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  void shouldRebuildStateFromDiff() {
+    final BeaconState state = advance(baseState);
+
+    final HotStateDiff diff = HotStateDiff.create(baseState, state).orElseThrow();
+    final Optional<BeaconState> rebuilt = diff.apply(baseState);
+
+    assertThat(rebuilt).contains(state);
+    assertThat(rebuilt.orElseThrow().getBalances().getElement(3))
+        .isEqualTo(state.getBalances().getElement(3));
+    assertThat(rebuilt.orElseThrow().getValidators().get(5))
+        .isEqualTo(state.getValidators().get(5));
+  }
+
+  @Test
+  void shouldShareUnchangedSubtreesWithBaseState() {
+    final BeaconState state = advance(baseState);
+
+    final BeaconState rebuilt =
+        HotStateDiff.create(baseState, state).orElseThrow().apply(baseState).orElseThrow();
+
+    assertThat(rebuilt.getBlockRoots().getBackingNode())
+        .isSameAs(baseState.getBlockRoots().getBackingNode());
+    assertThat(rebuilt.getValidators().get(5).getBackingNode())
+        .isSameAs(baseState.getValidators().get(5).getBackingNode());
+  }
+
+  @Test
+  void shouldRebuildPackedListGrowingWithZeroElements() {
+    final BeaconState base =
+        baseState.updated(mutable -> mutable.getBalances().appendElement(UInt64.valueOf(5)));
+    final BeaconState state =
+        base.updated(mutable -> mutable.getBalances().appendElement(UInt64.ZERO));
+
+    final Optional<BeaconState> rebuilt =
+        HotStateDiff.create(base, state).orElseThrow().apply(base);
+
+    assertThat(rebuilt).contains(state);
+    assertThat(rebuilt.orElseThrow().getBalances().getElement(65)).isEqualTo(UInt64.ZERO);
+  }
+
+  @Test
+  void shouldOnlyRecordChangedSubtrees() {
+    final BeaconState state = advance(baseState);
+
+    final HotStateDiff diff = HotStateDiff.create(baseState, state).orElseThrow();
+
+    assertThat(diff.getSerializedSize())
+        .isLessThan(state.getSchema().getSszSize(state.getBackingNode()));
+  }
+
+  @Test
+  void shouldRoundTripSerializedDiff() {
+    final HotStateDiff diff = HotStateDiff.create(baseState, advance(baseState)).orElseThrow();
+
+    final byte[] serialized = KvStoreSerializer.HOT_STATE_DIFF_SERIALIZER.serialize(diff);
+
+    assertThat(serialized).hasSize((int) diff.getSerializedSize());
+    assertThat(KvStoreSerializer.HOT_STATE_DIFF_SERIALIZER.deserialize(serialized))
+        .isEqualTo(diff);
+  }
+
+  @Test
+  void shouldCreateEmptyDiffForIdenticalState() {
+    final HotStateDiff diff = HotStateDiff.create(baseState, baseState).orElseThrow();
+
+    assertThat(diff.getBranchNodeCount()).isZero();
+    assertThat(diff.getLeafNodeCount()).isZero();
+    assertThat(diff.apply(baseState)).contains(baseState);
+  }
+
+  @Test
+  void shouldNotApplyDiffToDifferentBaseState() {
+    final BeaconState state = advance(baseState);
+    final HotStateDiff diff = HotStateDiff.create(baseState, state).orElseThrow();
+
+    assertThat(diff.apply(state)).isEmpty();
+  }
+
+  @Test
+  void shouldNotCreateDiffAcrossSchemas() {
+    final BeaconState otherForkState =
+        new DataStructureUtil(TestSpecFactory.createMinimalDeneb()).randomBeaconState(64);
+
+    assertThat(HotStateDiff.create(otherForkState, baseState)).isEmpty();
+  }
+
+  private BeaconState advance(final BeaconState state) {
+    return state.updated(
+        mutable -> {
+          mutable.setSlot(mutable.getSlot().plus(1));
+          mutable
+              .getBalances()
+              .setElement(3, mutable.getBalances().getElement(3).plus(UInt64.ONE));
+          mutable.getValidators().append(dataStructureUtil.randomValidator());
+          mutable.getBalances().appendElement(UInt64.valueOf(32_000_000_000L));
+        });
+  }
+}
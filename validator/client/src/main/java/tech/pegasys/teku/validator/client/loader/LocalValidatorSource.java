@@ -230,6 +230,11 @@ public class LocalValidatorSource extends AbstractValidatorSource implements Val
       return readOnly;
     }
 
+    @Override
+    public long getSignerCreationMemoryRequirement() {
+      return keyStoreData.getCrypto().getKdf().getParam().getMemoryRequirement();
+    }
+
     @Override
     public Signer createSigner() {
       final BLSKeyPair keyPair = new BLSKeyPair(BLSSecretKey.fromBytes(loadBLSPrivateKey()));
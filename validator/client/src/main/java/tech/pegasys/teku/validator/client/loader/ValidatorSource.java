@@ -39,5 +39,13 @@ public interface ValidatorSource {
     Signer createSigner();
 
     boolean isReadOnly();
+
+    /**
+     * @return the approximate number of bytes of memory used by {@link #createSigner()}, for
+     *     example while decrypting a keystore
+     */
+    default long getSignerCreationMemoryRequirement() {
+      return 0;
+    }
   }
 }
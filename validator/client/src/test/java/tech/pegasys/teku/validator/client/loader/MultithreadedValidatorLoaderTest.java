@@ -0,0 +1,51 @@
+/*
+ * Copyright Consensys Software Inc., 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.loader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.bls.keystore.model.SCryptParam;
+
+class MultithreadedValidatorLoaderTest {
+  private static final long MEGABYTE = 1024 * 1024;
+
+  @Test
+  void calculateThreadCount_shouldUseAllProcessorsWhenNoMemoryIsRequired() {
+    assertThat(MultithreadedValidatorLoader.calculateThreadCount(16, MEGABYTE, 0)).isEqualTo(16);
+  }
+
+  @Test
+  void calculateThreadCount_shouldLimitThreadsByAvailableMemory() {
+    final long scryptMemory = new SCryptParam(32, Bytes32.ZERO).getMemoryRequirement();
+    final long availableMemory = 8 * scryptMemory;
+
+    // Half of the available memory is used for decryption
+    assertThat(MultithreadedValidatorLoader.calculateThreadCount(16, availableMemory, scryptMemory))
+        .isEqualTo(4);
+  }
+
+  @Test
+  void calculateThreadCount_shouldLimitThreadsByAvailableProcessors() {
+    assertThat(MultithreadedValidatorLoader.calculateThreadCount(2, 2048 * MEGABYTE, MEGABYTE))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void calculateThreadCount_shouldAlwaysUseAtLeastOneThread() {
+    assertThat(MultithreadedValidatorLoader.calculateThreadCount(8, MEGABYTE, 512 * MEGABYTE))
+        .isEqualTo(1);
+  }
+}